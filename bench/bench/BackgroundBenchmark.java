@@ -0,0 +1,55 @@
+package bench;
+
+import game.BackgroundManager;
+import game.GameConfig;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class BackgroundBenchmark {
+    @Param({"map", "fallback"})
+    public String source;
+    
+    private BackgroundManager backgroundManager;
+    private BufferedImage target;
+    private Graphics2D g2d;
+    
+    @Setup
+    public void setup() {
+        backgroundManager = new BackgroundManager();
+        if ("map".equals(source)) {
+            BufferedImage map = new BufferedImage(2560, 1440, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D mg = map.createGraphics();
+            mg.setPaint(new GradientPaint(0, 0, new Color(90, 160, 90), 2560, 1440, new Color(200, 190, 150)));
+            mg.fillRect(0, 0, map.getWidth(), map.getHeight());
+            mg.dispose();
+            backgroundManager.setMapImage(map);
+        } else {
+            backgroundManager.setMapImage(null);
+        }
+        
+        target = new BufferedImage(GameConfig.WINDOW_WIDTH, GameConfig.WINDOW_HEIGHT, BufferedImage.TYPE_INT_RGB);
+        g2d = target.createGraphics();
+    }
+    
+    @TearDown
+    public void tearDown() {
+        g2d.dispose();
+    }
+    
+    @Benchmark
+    public BufferedImage render() {
+        backgroundManager.render(g2d, GameConfig.WINDOW_WIDTH, GameConfig.WINDOW_HEIGHT);
+        return target;
+    }
+}
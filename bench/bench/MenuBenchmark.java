@@ -0,0 +1,56 @@
+package bench;
+
+import game.GameConfig;
+import game.MenuElement;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class MenuBenchmark {
+    @Param({"false", "true"})
+    public boolean hovered;
+    
+    private MenuElement button;
+    private MenuElement text;
+    private BufferedImage target;
+    private Graphics2D g2d;
+    
+    @Setup
+    public void setup() {
+        button = new MenuElement(MenuElement.ElementType.IMAGE, "assets/ui/button/Button-Big-Blue.png", 561.0, 267.0, 798.0, 196.0);
+        button.getImageLoad().join();
+        button.setHovered(hovered);
+        text = new MenuElement("เล่นเกม", 790.5, 395.0, 100);
+        
+        target = new BufferedImage(GameConfig.WINDOW_WIDTH, GameConfig.WINDOW_HEIGHT, BufferedImage.TYPE_INT_RGB);
+        g2d = target.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+    }
+    
+    @TearDown
+    public void tearDown() {
+        g2d.dispose();
+    }
+    
+    @Benchmark
+    public BufferedImage renderButton() {
+        button.render(g2d);
+        return target;
+    }
+    
+    @Benchmark
+    public BufferedImage renderText() {
+        text.render(g2d);
+        return target;
+    }
+}
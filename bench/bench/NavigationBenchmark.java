@@ -0,0 +1,73 @@
+package bench;
+
+import editor.Waypoint;
+import game.GameConfig;
+import game.NavGraph;
+import game.RouteTable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class NavigationBenchmark {
+    private static final int PAIRS = 256;
+    
+    private NavGraph navGraph;
+    private RouteTable routeTable;
+    private int[] startNode;
+    private int[] goalNode;
+    private int[] fromEntrance;
+    private int[] toEntrance;
+    private int next;
+    
+    @Setup
+    public void setup() {
+        ArrayList<ArrayList<Waypoint>> paths = GameConfig.getWaypointPaths();
+        navGraph = new NavGraph(paths);
+        routeTable = RouteTable.compute(navGraph, GameConfig.HOVER_OBJECTS, 0L);
+        
+        SplittableRandom random = new SplittableRandom(42);
+        startNode = new int[PAIRS];
+        goalNode = new int[PAIRS];
+        fromEntrance = new int[PAIRS];
+        toEntrance = new int[PAIRS];
+        for (int i = 0; i < PAIRS; i++) {
+            startNode[i] = random.nextInt(navGraph.getNodeCount());
+            goalNode[i] = random.nextInt(navGraph.getNodeCount());
+            fromEntrance[i] = random.nextInt(routeTable.getEntranceCount());
+            toEntrance[i] = random.nextInt(routeTable.getEntranceCount());
+        }
+    }
+    
+    private int nextPair() {
+        next = (next + 1) & (PAIRS - 1);
+        return next;
+    }
+    
+    @Benchmark
+    public int[] findPath() {
+        int i = nextPair();
+        return navGraph.findPath(startNode[i], goalNode[i]);
+    }
+    
+    @Benchmark
+    public ArrayList<Waypoint> findRoute() {
+        int i = nextPair();
+        GameConfig.HoverObject from = GameConfig.HOVER_OBJECTS[fromEntrance[i]];
+        GameConfig.HoverObject to = GameConfig.HOVER_OBJECTS[toEntrance[i]];
+        return navGraph.findRoute(from.playerX, from.playerY, to.playerX, to.playerY);
+    }
+    
+    @Benchmark
+    public ArrayList<Waypoint> routeTableLookup() {
+        int i = nextPair();
+        return routeTable.getRoute(fromEntrance[i], toEntrance[i]);
+    }
+}
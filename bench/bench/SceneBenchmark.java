@@ -0,0 +1,89 @@
+package bench;
+
+import game.GameConfig;
+import game.GameLoop;
+import game.GameObject;
+import game.GameScene;
+import game.PlayerState;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class SceneBenchmark {
+    private static final int START_ENTRANCE = 4;
+    private static final int TARGET_OBJECT = 0;
+    
+    private GameScene scene;
+    private BufferedImage target;
+    private Graphics2D g2d;
+    private int hoverX;
+    private int hoverY;
+    private int missX;
+    private int missY;
+    
+    @Setup
+    public void setup() {
+        scene = new GameScene();
+        for (GameConfig.HoverObject config : GameConfig.HOVER_OBJECTS) {
+            GameObject obj = new GameObject(config.imagePath, config.x, config.y, config.width, config.height);
+            obj.setRotation(config.rotation);
+            scene.addHoverObject(obj, config.name);
+        }
+        
+        GameConfig.HoverObject hovered = GameConfig.HOVER_OBJECTS[TARGET_OBJECT];
+        hoverX = (int) (hovered.x + hovered.width / 2);
+        hoverY = (int) (hovered.y + hovered.height / 2);
+        missX = 5;
+        missY = GameConfig.WINDOW_HEIGHT - 5;
+        
+        scene.updateMousePosition(hoverX, hoverY);
+        scene.update(GameLoop.TICK_SECONDS);
+        
+        target = new BufferedImage(GameConfig.WINDOW_WIDTH, GameConfig.WINDOW_HEIGHT, BufferedImage.TYPE_INT_RGB);
+        g2d = target.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+    }
+    
+    @TearDown
+    public void tearDown() {
+        g2d.dispose();
+    }
+    
+    @Benchmark
+    public BufferedImage render() {
+        scene.render(g2d, 0.5);
+        scene.renderUI(g2d);
+        return target;
+    }
+    
+    @Benchmark
+    public boolean isHoveringAny() {
+        return scene.isHoveringAny();
+    }
+    
+    @Benchmark
+    public int findObjectAtMiss() {
+        return scene.findObjectAt(missX, missY);
+    }
+    
+    @Benchmark
+    public boolean handleClick() {
+        scene.handleClick(hoverX, hoverY);
+        PlayerState player = scene.getWorld().getPlayer();
+        boolean moving = player.isMoving();
+        player.stop();
+        player.setX(GameConfig.HOVER_OBJECTS[START_ENTRANCE].playerX);
+        player.setY(GameConfig.HOVER_OBJECTS[START_ENTRANCE].playerY);
+        return moving;
+    }
+}
@@ -0,0 +1,97 @@
+package bench;
+
+import data.GameObjectData;
+import data.SceneFile;
+import editor.SceneLoader;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class SceneLoaderBenchmark {
+    private static final String[] IMAGES = {
+        "assets/obj/gym.png",
+        "assets/obj/laundry.png",
+        "assets/obj/kfb.png",
+        "assets/obj/shop.png",
+        "assets/obj/dormitory.png"
+    };
+    
+    @Param({"100", "1000", "10000"})
+    public int objects;
+    
+    private SceneLoader loader;
+    private String code;
+    private File sceneFile;
+    
+    @Setup
+    public void setup() throws IOException {
+        loader = new SceneLoader();
+        
+        SplittableRandom random = new SplittableRandom(7);
+        ArrayList<GameObjectData> sceneData = new ArrayList<>(objects);
+        StringBuilder builder = new StringBuilder();
+        builder.append("ArrayList<GameObjectData> sceneData = new ArrayList<>();\n");
+        for (int i = 0; i < objects; i++) {
+            GameObjectData data = new GameObjectData(
+                IMAGES[i % IMAGES.length],
+                random.nextDouble(0, 1920),
+                random.nextDouble(0, 1080),
+                random.nextDouble(50, 400),
+                random.nextDouble(50, 400),
+                random.nextDouble(0, 360));
+            sceneData.add(data);
+            builder.append(String.format(Locale.ROOT,
+                "sceneData.add(new GameObjectData(\"%s\", %.1f, %.1f, %.1f, %.1f, %.1f));\n",
+                data.getImagePath(),
+                data.getX(),
+                data.getY(),
+                data.getWidth(),
+                data.getHeight(),
+                data.getRotation()));
+        }
+        builder.append("\nfor (GameObjectData data : sceneData) {\n");
+        builder.append("    GameObject obj = new GameObject(data.getImagePath(), data.getX(), data.getY(), data.getWidth(), data.getHeight());\n");
+        builder.append("    obj.setRotation(data.getRotation());\n");
+        builder.append("    objects.add(obj);\n");
+        builder.append("}\n");
+        code = builder.toString();
+        
+        int parsed = loader.parseSceneCode(code).size();
+        if (parsed != objects) {
+            throw new IllegalStateException("Parsed " + parsed + " of " + objects + " scene objects");
+        }
+        
+        sceneFile = File.createTempFile("bench", SceneFile.EXTENSION);
+        SceneFile.write(sceneFile, sceneData);
+        int read = SceneFile.read(sceneFile).size();
+        if (read != objects) {
+            throw new IllegalStateException("Read " + read + " of " + objects + " scene objects");
+        }
+    }
+    
+    @TearDown
+    public void tearDown() {
+        sceneFile.delete();
+    }
+    
+    @Benchmark
+    public ArrayList<GameObjectData> parseSceneCode() {
+        return loader.parseSceneCode(code);
+    }
+    
+    @Benchmark
+    public ArrayList<GameObjectData> readSceneFile() throws IOException {
+        return SceneFile.read(sceneFile);
+    }
+}
@@ -3,6 +3,7 @@ import javax.swing.SwingUtilities;
 
 public class Main {
     public static void main(String[] args) {
+        AssetPreloader.start();
         SwingUtilities.invokeLater(() -> {
             MainMenu mainMenu = new MainMenu();
             mainMenu.setVisible(true);
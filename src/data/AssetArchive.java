@@ -0,0 +1,225 @@
+package data;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class AssetArchive {
+    public static final String DEFAULT_FILE = "assets.pak";
+    
+    private static final int MAGIC = 0x4E42504B;
+    private static final short VERSION = 1;
+    private static final int HEADER_SIZE = 12;
+    private static final int MIN_ENTRY_SIZE = 10;
+    private static final String LOOSE_ONLY_DIR = "data";
+    
+    private final File file;
+    private final long lastModified;
+    private final MappedByteBuffer buffer;
+    private final HashMap<String, Integer> index;
+    private final int[] offsets;
+    private final int[] lengths;
+    
+    private AssetArchive(File file, long lastModified, MappedByteBuffer buffer, HashMap<String, Integer> index, int[] offsets, int[] lengths) {
+        this.file = file;
+        this.lastModified = lastModified;
+        this.buffer = buffer;
+        this.index = index;
+        this.offsets = offsets;
+        this.lengths = lengths;
+    }
+    
+    public static AssetArchive open(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Asset archive too large: " + file.getName());
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+                throw new IOException("Not an asset archive: " + file.getName());
+            }
+            short version = buffer.getShort();
+            if (version != VERSION) {
+                throw new IOException("Unsupported asset archive version " + version);
+            }
+            buffer.getShort();
+            int count = buffer.getInt();
+            if (count < 0 || count > buffer.remaining() / MIN_ENTRY_SIZE) {
+                throw new IOException("Corrupt asset archive header");
+            }
+            
+            HashMap<String, Integer> index = new HashMap<>(count * 2);
+            int[] offsets = new int[count];
+            int[] lengths = new int[count];
+            for (int i = 0; i < count; i++) {
+                byte[] name = new byte[buffer.getShort() & 0xffff];
+                buffer.get(name);
+                offsets[i] = buffer.getInt();
+                lengths[i] = buffer.getInt();
+                if (offsets[i] < 0 || lengths[i] < 0 || (long) offsets[i] + lengths[i] > buffer.capacity()) {
+                    throw new IOException("Corrupt asset archive entry " + i);
+                }
+                index.put(new String(name, StandardCharsets.UTF_8), i);
+            }
+            return new AssetArchive(file, file.lastModified(), buffer, index, offsets, lengths);
+        } catch (BufferUnderflowException ex) {
+            throw new IOException("Truncated asset archive: " + file.getName());
+        } catch (RuntimeException ex) {
+            throw new IOException("Corrupt asset archive " + file.getName() + ": " + ex, ex);
+        }
+    }
+    
+    public File getFile() {
+        return file;
+    }
+    
+    public long getLength() {
+        return buffer.capacity();
+    }
+    
+    public long getLastModified() {
+        return lastModified;
+    }
+    
+    public int getEntryCount() {
+        return offsets.length;
+    }
+    
+    public boolean contains(String id) {
+        return index.containsKey(id);
+    }
+    
+    public ByteBuffer get(String id) {
+        Integer entry = index.get(id);
+        if (entry == null) {
+            return null;
+        }
+        return buffer.slice(offsets[entry], lengths[entry]).asReadOnlyBuffer();
+    }
+    
+    public InputStream openStream(String id) {
+        ByteBuffer data = get(id);
+        return data == null ? null : new BufferInputStream(data);
+    }
+    
+    public static int write(File root, File out) throws IOException {
+        Path base = root.toPath().toAbsolutePath().normalize();
+        String prefix = base.getFileName().toString() + "/";
+        List<Path> files = new ArrayList<>();
+        try (Stream<Path> walk = Files.walk(base)) {
+            walk.filter(Files::isRegularFile)
+                .filter(p -> !base.relativize(p).startsWith(LOOSE_ONLY_DIR))
+                .sorted()
+                .forEach(files::add);
+        }
+        
+        ArrayList<byte[]> names = new ArrayList<>();
+        int indexSize = 0;
+        long dataSize = 0;
+        for (Path path : files) {
+            byte[] name = (prefix + base.relativize(path).toString().replace('\\', '/')).getBytes(StandardCharsets.UTF_8);
+            if (name.length > 0xffff) {
+                throw new IOException("Asset path too long: " + path);
+            }
+            names.add(name);
+            indexSize += 2 + name.length + 8;
+            dataSize += Files.size(path);
+        }
+        if (HEADER_SIZE + indexSize + dataSize > Integer.MAX_VALUE) {
+            throw new IOException("Assets do not fit in one archive");
+        }
+        
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE + indexSize);
+        header.putInt(MAGIC);
+        header.putShort(VERSION);
+        header.putShort((short) 0);
+        header.putInt(files.size());
+        int offset = HEADER_SIZE + indexSize;
+        for (int i = 0; i < files.size(); i++) {
+            int length = (int) Files.size(files.get(i));
+            header.putShort((short) names.get(i).length);
+            header.put(names.get(i));
+            header.putInt(offset);
+            header.putInt(length);
+            offset += length;
+        }
+        header.flip();
+        
+        Path target = out.toPath().toAbsolutePath();
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            for (Path path : files) {
+                ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(path));
+                while (data.hasRemaining()) {
+                    channel.write(data);
+                }
+            }
+        }
+        temp.toFile().setReadable(true, false);
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return files.size();
+    }
+    
+    public static void main(String[] args) throws IOException {
+        File root = new File(args.length > 0 ? args[0] : "assets");
+        File out = new File(args.length > 1 ? args[1] : DEFAULT_FILE);
+        long start = System.nanoTime();
+        int count = write(root, out);
+        System.out.println("Packed " + count + " assets from " + root + " into " + out + " (" + (out.length() >> 10) + " KB) in "
+            + (System.nanoTime() - start) / 1_000_000 + " ms");
+    }
+    
+    private static class BufferInputStream extends InputStream {
+        private final ByteBuffer data;
+        
+        BufferInputStream(ByteBuffer data) {
+            this.data = data;
+        }
+        
+        @Override
+        public int read() {
+            return data.hasRemaining() ? data.get() & 0xff : -1;
+        }
+        
+        @Override
+        public int read(byte[] bytes, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!data.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(len, data.remaining());
+            data.get(bytes, off, count);
+            return count;
+        }
+        
+        @Override
+        public int available() {
+            return data.remaining();
+        }
+        
+        @Override
+        public long skip(long n) {
+            int count = (int) Math.max(0, Math.min(n, data.remaining()));
+            data.position(data.position() + count);
+            return count;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package data;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+public class SceneFile {
+    public static final String EXTENSION = ".nbscene";
+    
+    private static final int MAGIC = 0x4E425343;
+    private static final short VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+    private static final int RECORD_SIZE = 4 + 5 * 8;
+    private static final int NO_IMAGE = -1;
+    
+    public static void write(File file, List<GameObjectData> objects) throws IOException {
+        ArrayList<byte[]> strings = new ArrayList<>();
+        HashMap<String, Integer> stringIndex = new HashMap<>();
+        int[] imageIndex = new int[objects.size()];
+        int stringBytes = 0;
+        
+        for (int i = 0; i < objects.size(); i++) {
+            String path = objects.get(i).getImagePath();
+            if (path == null) {
+                imageIndex[i] = NO_IMAGE;
+                continue;
+            }
+            Integer index = stringIndex.get(path);
+            if (index == null) {
+                byte[] encoded = path.getBytes(StandardCharsets.UTF_8);
+                if (encoded.length > 0xffff) {
+                    throw new IOException("Image path too long: " + path);
+                }
+                index = strings.size();
+                strings.add(encoded);
+                stringIndex.put(path, index);
+                stringBytes += 2 + encoded.length;
+            }
+            imageIndex[i] = index;
+        }
+        
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + stringBytes + objects.size() * RECORD_SIZE);
+        buffer.putInt(MAGIC);
+        buffer.putShort(VERSION);
+        buffer.putShort((short) 0);
+        buffer.putInt(strings.size());
+        buffer.putInt(objects.size());
+        
+        for (byte[] encoded : strings) {
+            buffer.putShort((short) encoded.length);
+            buffer.put(encoded);
+        }
+        
+        for (int i = 0; i < objects.size(); i++) {
+            GameObjectData data = objects.get(i);
+            buffer.putInt(imageIndex[i]);
+            buffer.putDouble(data.getX());
+            buffer.putDouble(data.getY());
+            buffer.putDouble(data.getWidth());
+            buffer.putDouble(data.getHeight());
+            buffer.putDouble(data.getRotation());
+        }
+        buffer.flip();
+        
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+    
+    public static ArrayList<GameObjectData> read(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return decode(buffer);
+        } catch (BufferUnderflowException ex) {
+            throw new IOException("Truncated scene file: " + file.getName());
+        }
+    }
+    
+    private static ArrayList<GameObjectData> decode(ByteBuffer buffer) throws IOException {
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+            throw new IOException("Not a scene file");
+        }
+        short version = buffer.getShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported scene file version " + version);
+        }
+        buffer.getShort();
+        int stringCount = buffer.getInt();
+        int objectCount = buffer.getInt();
+        if (stringCount < 0 || objectCount < 0 || stringCount > buffer.remaining() / 2
+                || objectCount > (buffer.remaining() - 2L * stringCount) / RECORD_SIZE) {
+            throw new IOException("Corrupt scene file header");
+        }
+        
+        String[] strings = new String[stringCount];
+        for (int i = 0; i < stringCount; i++) {
+            byte[] encoded = new byte[buffer.getShort() & 0xffff];
+            buffer.get(encoded);
+            strings[i] = new String(encoded, StandardCharsets.UTF_8);
+        }
+        
+        if (buffer.remaining() < (long) objectCount * RECORD_SIZE) {
+            throw new IOException("Truncated scene file");
+        }
+        
+        ArrayList<GameObjectData> objects = new ArrayList<>(objectCount);
+        for (int i = 0; i < objectCount; i++) {
+            int image = buffer.getInt();
+            if (image < NO_IMAGE || image >= stringCount) {
+                throw new IOException("Corrupt image index " + image);
+            }
+            double x = buffer.getDouble();
+            double y = buffer.getDouble();
+            double width = buffer.getDouble();
+            double height = buffer.getDouble();
+            double rotation = buffer.getDouble();
+            objects.add(new GameObjectData(image == NO_IMAGE ? null : strings[image], x, y, width, height, rotation));
+        }
+        return objects;
+    }
+}
@@ -9,6 +9,7 @@ import java.awt.datatransfer.StringSelection;
 import game.GameWindow;
 import game.GameObject;
 import game.FontManager;
+import data.SceneFile;
 import javax.swing.plaf.FontUIResource;
 
 public class EditorApp {
@@ -45,6 +46,7 @@ public class EditorApp {
     }
     
     private void createMenuBar() {
+        JPopupMenu.setDefaultLightWeightPopupEnabled(false);
         JMenuBar menuBar = new JMenuBar();
         Font buttonFont = FontManager.getThaiFont(12);
         Font menuFont = FontManager.getThaiFont(12);
@@ -52,31 +54,37 @@ public class EditorApp {
         JButton rotLeftBtn = new JButton("↺ Rotate Left");
         rotLeftBtn.setFont(buttonFont);
         rotLeftBtn.addActionListener(_ -> {
-            GameObject obj = gamePanel.getEditorManager().getSelectedObject();
-            if (obj != null) {
-                obj.setRotation(obj.getRotation() - 15);
-                gamePanel.repaint();
+            synchronized (gamePanel.getSceneLock()) {
+                GameObject obj = gamePanel.getEditorManager().getSelectedObject();
+                if (obj != null) {
+                    obj.setRotation(obj.getRotation() - 15);
+                }
             }
+            gamePanel.repaint();
         });
         
         JButton rotRightBtn = new JButton("Rotate Right ↻");
         rotRightBtn.setFont(buttonFont);
         rotRightBtn.addActionListener(_ -> {
-            GameObject obj = gamePanel.getEditorManager().getSelectedObject();
-            if (obj != null) {
-                obj.setRotation(obj.getRotation() + 15);
-                gamePanel.repaint();
+            synchronized (gamePanel.getSceneLock()) {
+                GameObject obj = gamePanel.getEditorManager().getSelectedObject();
+                if (obj != null) {
+                    obj.setRotation(obj.getRotation() + 15);
+                }
             }
+            gamePanel.repaint();
         });
         
         JButton resetRotBtn = new JButton("Reset Rotation");
         resetRotBtn.setFont(buttonFont);
         resetRotBtn.addActionListener(_ -> {
-            GameObject obj = gamePanel.getEditorManager().getSelectedObject();
-            if (obj != null) {
-                obj.setRotation(0);
-                gamePanel.repaint();
+            synchronized (gamePanel.getSceneLock()) {
+                GameObject obj = gamePanel.getEditorManager().getSelectedObject();
+                if (obj != null) {
+                    obj.setRotation(0);
+                }
             }
+            gamePanel.repaint();
         });
         
         JButton addWaypointBtn = new JButton("Toggle Waypoint Mode");
@@ -110,6 +118,12 @@ public class EditorApp {
         JMenuItem loadItem = new JMenuItem("Load Scene");
         loadItem.setFont(menuFont);
         loadItem.addActionListener(_ -> handleLoadScene());
+        JMenuItem saveFileItem = new JMenuItem("Save Scene File...");
+        saveFileItem.setFont(menuFont);
+        saveFileItem.addActionListener(_ -> handleSaveSceneFile());
+        JMenuItem openFileItem = new JMenuItem("Open Scene File...");
+        openFileItem.setFont(menuFont);
+        openFileItem.addActionListener(_ -> handleOpenSceneFile());
         JMenuItem clearItem = new JMenuItem("Clear All");
         clearItem.setFont(menuFont);
         clearItem.addActionListener(_ -> handleClearAll());
@@ -119,6 +133,9 @@ public class EditorApp {
         fileMenu.add(loadItem);
         fileMenu.add(exportItem);
         fileMenu.addSeparator();
+        fileMenu.add(openFileItem);
+        fileMenu.add(saveFileItem);
+        fileMenu.addSeparator();
         fileMenu.add(clearItem);
         
         menuBar.add(rotLeftBtn);
@@ -160,7 +177,9 @@ public class EditorApp {
         if (result == JFileChooser.APPROVE_OPTION) {
             String imagePath = fileChooser.getSelectedFile().getAbsolutePath();
             GameObject obj = new GameObject(imagePath, 400, 300, 0, 0);
-            gamePanel.getEditorManager().addObject(obj);
+            synchronized (gamePanel.getSceneLock()) {
+                gamePanel.getEditorManager().addObject(obj);
+            }
             gamePanel.repaint();
         }
     }
@@ -215,8 +234,68 @@ public class EditorApp {
         );
         
         if (code != null && !code.isEmpty()) {
-            new SceneLoader().loadFromCode(code, gamePanel.getEditorManager());
+            synchronized (gamePanel.getSceneLock()) {
+                new SceneLoader().loadFromCode(code, gamePanel.getEditorManager());
+            }
+            gamePanel.repaint();
+        }
+    }
+    
+    private JFileChooser createSceneFileChooser() {
+        JFileChooser fileChooser = new JFileChooser();
+        fileChooser.setCurrentDirectory(new java.io.File(System.getProperty("user.dir")));
+        fileChooser.setFileFilter(new javax.swing.filechooser.FileFilter() {
+            @Override
+            public boolean accept(java.io.File f) {
+                return f.isDirectory() || f.getName().toLowerCase().endsWith(SceneFile.EXTENSION);
+            }
+            
+            @Override
+            public String getDescription() {
+                return "Scene Files (*" + SceneFile.EXTENSION + ")";
+            }
+        });
+        return fileChooser;
+    }
+    
+    private void handleSaveSceneFile() {
+        JFileChooser fileChooser = createSceneFileChooser();
+        fileChooser.setDialogTitle("Save Scene File");
+        if (fileChooser.showSaveDialog(window) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        
+        java.io.File file = fileChooser.getSelectedFile();
+        if (!file.getName().toLowerCase().endsWith(SceneFile.EXTENSION)) {
+            file = new java.io.File(file.getParentFile(), file.getName() + SceneFile.EXTENSION);
+        }
+        
+        try {
+            ArrayList<GameObject> objects;
+            synchronized (gamePanel.getSceneLock()) {
+                objects = new ArrayList<>(gamePanel.getEditorManager().getObjects());
+            }
+            new SceneExporter().exportToFile(objects, file);
+            JOptionPane.showMessageDialog(window, "Saved " + objects.size() + " objects to " + file.getName());
+        } catch (java.io.IOException ex) {
+            JOptionPane.showMessageDialog(window, "Could not save scene: " + ex.getMessage(), "Save Scene File", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+    
+    private void handleOpenSceneFile() {
+        JFileChooser fileChooser = createSceneFileChooser();
+        fileChooser.setDialogTitle("Open Scene File");
+        if (fileChooser.showOpenDialog(window) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        
+        try {
+            synchronized (gamePanel.getSceneLock()) {
+                new SceneLoader().loadFromFile(fileChooser.getSelectedFile(), gamePanel.getEditorManager());
+            }
             gamePanel.repaint();
+        } catch (java.io.IOException ex) {
+            JOptionPane.showMessageDialog(window, "Could not open scene: " + ex.getMessage(), "Open Scene File", JOptionPane.ERROR_MESSAGE);
         }
     }
     
@@ -229,7 +308,9 @@ public class EditorApp {
         );
         
         if (result == JOptionPane.YES_OPTION) {
-            gamePanel.getEditorManager().getObjects().clear();
+            synchronized (gamePanel.getSceneLock()) {
+                gamePanel.getEditorManager().getObjects().clear();
+            }
             gamePanel.repaint();
         }
     }
@@ -293,13 +374,17 @@ public class EditorApp {
         );
         
         if (result == JOptionPane.YES_OPTION) {
-            gamePanel.getEditorManager().clearWaypoints();
+            synchronized (gamePanel.getSceneLock()) {
+                gamePanel.getEditorManager().clearWaypoints();
+            }
             gamePanel.repaint();
         }
     }
     
     private void handleNewPath() {
-        gamePanel.getEditorManager().startNewPath();
+        synchronized (gamePanel.getSceneLock()) {
+            gamePanel.getEditorManager().startNewPath();
+        }
         JOptionPane.showMessageDialog(window, "New path started. Current path: " + gamePanel.getEditorManager().getCurrentPathIndex());
         gamePanel.repaint();
     }
@@ -1,7 +1,10 @@
 package editor;
 
+import game.AssetPreloader;
+
 public class EditorMain {
     public static void main(String[] args) {
+        AssetPreloader.start();
         EditorApp editor = new EditorApp();
         editor.start();
     }
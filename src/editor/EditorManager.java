@@ -3,12 +3,23 @@ package editor;
 import java.awt.*;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseWheelEvent;
+import java.awt.geom.Line2D;
+import java.awt.geom.Path2D;
+import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import game.GameObject;
+import game.TextMetrics;
 
 import java.util.List;
 
 public class EditorManager {
+    private static final Font LABEL_FONT = new Font("Arial", Font.BOLD, 12);
+    private static final Stroke OUTLINE_STROKE = new BasicStroke(2);
+    private static final Stroke PATH_STROKE = new BasicStroke(3, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND);
+    private static final Color PATH_COLOR = new Color(255, 200, 0, 150);
+    private static final int LAYER_MARGIN = 24;
+    private static final int LAYER_GROWTH = 256;
+    
     private ArrayList<GameObject> objects;
     private ArrayList<ArrayList<Waypoint>> waypointPaths;
     private int currentPathIndex;
@@ -18,12 +29,20 @@ public class EditorManager {
     private boolean waypointMode;
     private boolean positionMode;
     
+    private final OverlayLayer pathsLayer;
+    private final OverlayLayer activeLayer;
+    private boolean pathsLayerDirty;
+    private boolean activeLayerDirty;
+    private int activeDrawnCount;
+    
     public EditorManager() {
         objects = new ArrayList<>();
         waypointPaths = new ArrayList<>();
         currentPathIndex = 0;
         waypointMode = false;
         positionMode = false;
+        pathsLayer = new OverlayLayer();
+        activeLayer = new OverlayLayer();
     }
     
     public void addObject(GameObject obj) {
@@ -100,25 +119,110 @@ public class EditorManager {
             obj.render(g2d);
         }
         
+        renderWaypointOverlay(g2d);
+        
+        if (selectedObject != null) {
+            renderSelectionBox(g2d, selectedObject);
+        }
+    }
+    
+    private void renderWaypointOverlay(Graphics2D g2d) {
+        GraphicsConfiguration gc = g2d.getDeviceConfiguration();
+        if (pathsLayerDirty) {
+            rebuildPathsLayer(gc);
+        }
+        
+        ArrayList<Waypoint> active = currentPathIndex < waypointPaths.size() ? waypointPaths.get(currentPathIndex) : null;
+        if (active == null || active.isEmpty()) {
+            activeLayer.clear();
+            activeDrawnCount = 0;
+            activeLayerDirty = false;
+        } else if (activeLayerDirty || active.size() < activeDrawnCount) {
+            rebuildActiveLayer(gc, active);
+        } else if (active.size() > activeDrawnCount) {
+            extendActiveLayer(gc, active);
+        }
+        
+        pathsLayer.render(g2d);
+        activeLayer.render(g2d);
+    }
+    
+    private void rebuildPathsLayer(GraphicsConfiguration gc) {
+        pathsLayerDirty = false;
+        Rectangle area = null;
         for (int pathIndex = 0; pathIndex < waypointPaths.size(); pathIndex++) {
-            ArrayList<Waypoint> path = waypointPaths.get(pathIndex);
-            Color pathColor = pathIndex == currentPathIndex ? Color.RED : Color.ORANGE;
-            
-            for (int i = 0; i < path.size(); i++) {
-                Waypoint wp = path.get(i);
-                renderWaypoint(g2d, wp, i, pathColor);
+            if (pathIndex != currentPathIndex) {
+                area = union(area, boundsOf(waypointPaths.get(pathIndex), 0));
             }
-            
-            if (path.size() > 1) {
-                renderPaths(g2d, path);
+        }
+        if (area == null) {
+            pathsLayer.clear();
+            return;
+        }
+        
+        Graphics2D g2d = pathsLayer.reset(gc, area);
+        for (int pathIndex = 0; pathIndex < waypointPaths.size(); pathIndex++) {
+            if (pathIndex != currentPathIndex) {
+                renderPath(g2d, waypointPaths.get(pathIndex), Color.ORANGE);
+            }
+        }
+        g2d.dispose();
+    }
+    
+    private void rebuildActiveLayer(GraphicsConfiguration gc, ArrayList<Waypoint> path) {
+        activeLayerDirty = false;
+        Graphics2D g2d = activeLayer.reset(gc, boundsOf(path, LAYER_GROWTH));
+        renderPath(g2d, path, Color.RED);
+        g2d.dispose();
+        activeDrawnCount = path.size();
+    }
+    
+    private void extendActiveLayer(GraphicsConfiguration gc, ArrayList<Waypoint> path) {
+        for (int i = activeDrawnCount; i < path.size(); i++) {
+            if (!activeLayer.covers(path.get(i))) {
+                rebuildActiveLayer(gc, path);
+                return;
             }
         }
         
-        if (selectedObject != null) {
-            renderSelectionBox(g2d, selectedObject);
+        Graphics2D g2d = activeLayer.extend();
+        Line2D.Float segment = new Line2D.Float();
+        for (int i = activeDrawnCount; i < path.size(); i++) {
+            Waypoint wp = path.get(i);
+            renderWaypoint(g2d, wp, i, Color.RED);
+            if (i > 0) {
+                Waypoint prev = path.get(i - 1);
+                segment.setLine(prev.getX(), prev.getY(), wp.getX(), wp.getY());
+                g2d.setColor(PATH_COLOR);
+                g2d.setStroke(PATH_STROKE);
+                g2d.draw(segment);
+            }
+        }
+        g2d.dispose();
+        activeDrawnCount = path.size();
+    }
+    
+    private void renderPath(Graphics2D g2d, ArrayList<Waypoint> path, Color pathColor) {
+        for (int i = 0; i < path.size(); i++) {
+            renderWaypoint(g2d, path.get(i), i, pathColor);
+        }
+        
+        if (path.size() > 1) {
+            g2d.setColor(PATH_COLOR);
+            g2d.setStroke(PATH_STROKE);
+            g2d.draw(buildShape(path));
         }
     }
     
+    private Path2D.Float buildShape(ArrayList<Waypoint> path) {
+        Path2D.Float shape = new Path2D.Float(Path2D.WIND_NON_ZERO, path.size());
+        shape.moveTo(path.get(0).getX(), path.get(0).getY());
+        for (int i = 1; i < path.size(); i++) {
+            shape.lineTo(path.get(i).getX(), path.get(i).getY());
+        }
+        return shape;
+    }
+    
     private void renderWaypoint(Graphics2D g2d, Waypoint wp, int index, Color pathColor) {
         int x = (int)wp.getX();
         int y = (int)wp.getY();
@@ -126,25 +230,40 @@ public class EditorManager {
         g2d.setColor(pathColor);
         g2d.fillOval(x - 5, y - 5, 10, 10);
         g2d.setColor(Color.WHITE);
-        g2d.setStroke(new BasicStroke(2));
+        g2d.setStroke(OUTLINE_STROKE);
         g2d.drawOval(x - 5, y - 5, 10, 10);
         
-        g2d.setColor(Color.WHITE);
-        g2d.setFont(new Font("Arial", Font.BOLD, 12));
+        g2d.setFont(LABEL_FONT);
         String label = String.valueOf(index);
-        int labelWidth = g2d.getFontMetrics().stringWidth(label);
+        int labelWidth = TextMetrics.stringWidth(LABEL_FONT, label);
         g2d.drawString(label, x - labelWidth / 2, y - 8);
     }
     
-    private void renderPaths(Graphics2D g2d, ArrayList<Waypoint> path) {
-        g2d.setColor(new Color(255, 200, 0, 150));
-        g2d.setStroke(new BasicStroke(3, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
-        
-        for (int i = 0; i < path.size() - 1; i++) {
-            Waypoint wp1 = path.get(i);
-            Waypoint wp2 = path.get(i + 1);
-            g2d.drawLine((int)wp1.getX(), (int)wp1.getY(), (int)wp2.getX(), (int)wp2.getY());
+    private Rectangle boundsOf(ArrayList<Waypoint> path, int slack) {
+        if (path.isEmpty()) {
+            return null;
         }
+        Rectangle area = new Rectangle(path.get(0).getPosition());
+        for (Waypoint wp : path) {
+            area.add(wp.getPosition());
+        }
+        area.grow(LAYER_MARGIN + slack, LAYER_MARGIN + slack);
+        return area;
+    }
+    
+    private Rectangle union(Rectangle a, Rectangle b) {
+        if (a == null) {
+            return b;
+        }
+        if (b != null) {
+            a.add(b);
+        }
+        return a;
+    }
+    
+    private void invalidateWaypointOverlay() {
+        pathsLayerDirty = true;
+        activeLayerDirty = true;
     }
     
     private void renderSelectionBox(Graphics2D g2d, GameObject obj) {
@@ -168,6 +287,10 @@ public class EditorManager {
         return null;
     }
     
+    public boolean isDragging() {
+        return draggedObject != null;
+    }
+    
     public GameObject getSelectedObject() {
         return selectedObject;
     }
@@ -187,7 +310,9 @@ public class EditorManager {
     
     public void removeWaypointAt(int x, int y) {
         for (ArrayList<Waypoint> path : waypointPaths) {
-            path.removeIf(wp -> wp.contains(x, y));
+            if (path.removeIf(wp -> wp.contains(x, y))) {
+                invalidateWaypointOverlay();
+            }
         }
     }
     
@@ -198,11 +323,13 @@ public class EditorManager {
     public void clearWaypoints() {
         waypointPaths.clear();
         currentPathIndex = 0;
+        invalidateWaypointOverlay();
     }
     
     public void startNewPath() {
         waypointPaths.add(new ArrayList<>());
         currentPathIndex = waypointPaths.size() - 1;
+        invalidateWaypointOverlay();
         System.out.println("Started new path: " + currentPathIndex);
     }
     
@@ -225,4 +352,51 @@ public class EditorManager {
     public boolean isPositionMode() {
         return positionMode;
     }
+    
+    private static class OverlayLayer {
+        private BufferedImage image;
+        private int originX;
+        private int originY;
+        
+        Graphics2D reset(GraphicsConfiguration gc, Rectangle area) {
+            if (image == null || image.getWidth() < area.width || image.getHeight() < area.height) {
+                image = gc.createCompatibleImage(area.width, area.height, Transparency.TRANSLUCENT);
+            }
+            originX = area.x;
+            originY = area.y;
+            
+            Graphics2D g2d = image.createGraphics();
+            g2d.setComposite(AlphaComposite.Clear);
+            g2d.fillRect(0, 0, image.getWidth(), image.getHeight());
+            g2d.setComposite(AlphaComposite.SrcOver);
+            return prepare(g2d);
+        }
+        
+        Graphics2D extend() {
+            return prepare(image.createGraphics());
+        }
+        
+        private Graphics2D prepare(Graphics2D g2d) {
+            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g2d.translate(-originX, -originY);
+            return g2d;
+        }
+        
+        boolean covers(Waypoint wp) {
+            return image != null
+                && wp.getX() - LAYER_MARGIN >= originX && wp.getY() - LAYER_MARGIN >= originY
+                && wp.getX() + LAYER_MARGIN <= originX + image.getWidth()
+                && wp.getY() + LAYER_MARGIN <= originY + image.getHeight();
+        }
+        
+        void render(Graphics2D g2d) {
+            if (image != null) {
+                g2d.drawImage(image, originX, originY, null);
+            }
+        }
+        
+        void clear() {
+            image = null;
+        }
+    }
 }
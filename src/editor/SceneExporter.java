@@ -3,6 +3,14 @@ package editor;
 import java.awt.*;
 import java.awt.datatransfer.Clipboard;
 import java.awt.datatransfer.StringSelection;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import data.GameObjectData;
+import data.SceneFile;
+import game.AssetManager;
+import game.GameObject;
 
 public class SceneExporter {
     public void exportToClipboard(String code) {
@@ -10,5 +18,14 @@ public class SceneExporter {
         StringSelection selection = new StringSelection(code);
         clipboard.setContents(selection, null);
     }
+    
+    public void exportToFile(List<GameObject> objects, File file) throws IOException {
+        ArrayList<GameObjectData> sceneData = new ArrayList<>(objects.size());
+        for (GameObject obj : objects) {
+            String imagePath = obj.getImagePath() != null ? AssetManager.normalizePath(obj.getImagePath()) : null;
+            sceneData.add(new GameObjectData(imagePath, obj.getX(), obj.getY(), obj.getWidth(), obj.getHeight(), obj.getRotation()));
+        }
+        SceneFile.write(file, sceneData);
+    }
 }
 
@@ -1,47 +1,62 @@
 package editor;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import game.GameObject;
 import data.GameObjectData;
+import data.SceneFile;
 
 public class SceneLoader {
+    private static final String ADD_PREFIX = "sceneData.add(new GameObjectData(";
+    private static final String ADD_SUFFIX = "));";
+    
     public void loadFromCode(String code, EditorManager editorManager) {
         try {
             editorManager.getObjects().clear();
             
             ArrayList<GameObjectData> sceneData = parseSceneCode(code);
-            
-            for (GameObjectData data : sceneData) {
-                GameObject obj = new GameObject(
-                    data.getImagePath(),
-                    data.getX(),
-                    data.getY(),
-                    data.getWidth(),
-                    data.getHeight()
-                );
-                obj.setRotation(data.getRotation());
-                editorManager.addObject(obj);
-            }
+            addObjects(sceneData, editorManager);
         } catch (Exception ex) {
         }
     }
     
-    private ArrayList<GameObjectData> parseSceneCode(String code) {
+    public void loadFromFile(File file, EditorManager editorManager) throws IOException {
+        ArrayList<GameObjectData> sceneData = SceneFile.read(file);
+        editorManager.getObjects().clear();
+        addObjects(sceneData, editorManager);
+    }
+    
+    private void addObjects(ArrayList<GameObjectData> sceneData, EditorManager editorManager) {
+        for (GameObjectData data : sceneData) {
+            GameObject obj = new GameObject(
+                data.getImagePath(),
+                data.getX(),
+                data.getY(),
+                data.getWidth(),
+                data.getHeight()
+            );
+            obj.setRotation(data.getRotation());
+            editorManager.addObject(obj);
+        }
+    }
+    
+    public ArrayList<GameObjectData> parseSceneCode(String code) {
         ArrayList<GameObjectData> sceneData = new ArrayList<>();
         
         String[] lines = code.split("\n");
         for (String line : lines) {
             line = line.trim();
-            if (line.startsWith("sceneData.add(new GameObjectData(")) {
+            if (line.startsWith(ADD_PREFIX) && line.endsWith(ADD_SUFFIX)) {
                 try {
                     String content = line.substring(
-                        line.indexOf("(") + 1,
-                        line.lastIndexOf(")")
+                        ADD_PREFIX.length(),
+                        line.length() - ADD_SUFFIX.length()
                     );
                     String[] params = content.split(",");
                     
                     if (params.length >= 6) {
-                        String imagePath = params[0].replaceAll("\"", "");
+                        String imagePath = params[0].trim().replaceAll("\"", "");
                         double x = Double.parseDouble(params[1].trim());
                         double y = Double.parseDouble(params[2].trim());
                         double width = Double.parseDouble(params[3].trim());
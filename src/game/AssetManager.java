@@ -0,0 +1,207 @@
+package game;
+
+import data.AssetArchive;
+
+import javax.imageio.ImageIO;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class AssetManager {
+    private static final ExecutorService loader = Executors.newVirtualThreadPerTaskExecutor();
+    
+    private static final ConcurrentHashMap<String, CompletableFuture<BufferedImage>> images = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, CompletableFuture<byte[]>> data = new ConcurrentHashMap<>();
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+    private static final AtomicLong unaccelerated = new AtomicLong();
+    private static final String ROOT = new File(System.getProperty("user.dir")).toPath().normalize().toString().replace('\\', '/');
+    private static final AssetArchive archive = openArchive();
+    
+    private static AssetArchive openArchive() {
+        File file = new File(GameConfig.ASSET_ARCHIVE);
+        if (!file.isFile()) {
+            return null;
+        }
+        try {
+            AssetArchive opened = AssetArchive.open(file);
+            System.out.println("Using asset archive " + file + " (" + opened.getEntryCount() + " entries)");
+            return opened;
+        } catch (IOException ex) {
+            System.err.println("Ignoring asset archive " + file + ": " + ex.getMessage());
+            return null;
+        }
+    }
+    
+    public static BufferedImage getImage(String path) {
+        if (path == null || path.isEmpty()) {
+            return null;
+        }
+        
+        String key = normalizePath(path);
+        CompletableFuture<BufferedImage> future = images.get(key);
+        if (future == null) {
+            CompletableFuture<BufferedImage> created = new CompletableFuture<>();
+            future = images.putIfAbsent(key, created);
+            if (future == null) {
+                misses.incrementAndGet();
+                created.complete(decodeImage(key));
+                return created.join();
+            }
+        }
+        hits.incrementAndGet();
+        return future.join();
+    }
+    
+    public static CompletableFuture<BufferedImage> loadImageAsync(String path) {
+        if (path == null || path.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        
+        String key = normalizePath(path);
+        CompletableFuture<BufferedImage> future = images.get(key);
+        if (future != null) {
+            hits.incrementAndGet();
+            return future;
+        }
+        return images.computeIfAbsent(key, k -> {
+            misses.incrementAndGet();
+            return CompletableFuture.supplyAsync(() -> decodeImage(k), loader);
+        });
+    }
+    
+    public static byte[] getData(String path) {
+        return loadDataAsync(path).join();
+    }
+    
+    public static CompletableFuture<byte[]> loadDataAsync(String path) {
+        if (path == null || path.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        
+        String key = normalizePath(path);
+        return data.computeIfAbsent(key, k -> CompletableFuture.supplyAsync(() -> readData(k), loader));
+    }
+    
+    public static CompletableFuture<Void> runAsync(Runnable task) {
+        return CompletableFuture.runAsync(task, loader);
+    }
+    
+    public static String normalizePath(String path) {
+        String normalized = new File(path.replace('\\', '/')).toPath().normalize().toString().replace('\\', '/');
+        if (normalized.startsWith(ROOT + "/")) {
+            normalized = normalized.substring(ROOT.length() + 1);
+        }
+        return normalized;
+    }
+    
+    public static File resolveFile(String path) {
+        File file = new File(path);
+        return file.exists() ? file : null;
+    }
+    
+    public static InputStream openPacked(String path) {
+        return archive != null ? archive.openStream(normalizePath(path)) : null;
+    }
+    
+    private static BufferedImage decodeImage(String key) {
+        GameEvents.ImageDecodeEvent event = new GameEvents.ImageDecodeEvent();
+        event.begin();
+        event.path = key;
+        
+        BufferedImage image = null;
+        try {
+            InputStream packed = archive != null ? archive.openStream(key) : null;
+            File file = packed != null ? archive.getFile() : resolveFile(key);
+            if (file != null) {
+                long sourceLength = packed != null ? archive.getLength() : file.length();
+                long sourceModified = packed != null ? archive.getLastModified() : file.lastModified();
+                image = ImageCache.read(key, sourceLength, sourceModified);
+                event.cached = image != null;
+                if (packed != null) {
+                    event.fileSize = packed.available();
+                    if (image == null) {
+                        image = ImageIO.read(new MemoryCacheImageInputStream(packed));
+                    }
+                } else {
+                    event.fileSize = sourceLength;
+                    if (image == null) {
+                        image = ImageIO.read(file);
+                    }
+                }
+                
+                if (image == null) {
+                    event.error = "No reader for image format";
+                } else if (!event.cached) {
+                    BufferedImage decoded = image;
+                    image = ImageNormalizer.normalize(decoded);
+                    event.converted = image != decoded;
+                    ImageCache.write(key, sourceLength, sourceModified, image);
+                }
+            } else {
+                event.error = "File not found";
+            }
+        } catch (Exception ex) {
+            event.error = ex.toString();
+        }
+        
+        if (image != null) {
+            event.width = image.getWidth();
+            event.height = image.getHeight();
+            event.transparency = ImageNormalizer.describe(image.getTransparency());
+            event.accelerated = ImageNormalizer.isCompatible(image);
+            if (!event.accelerated) {
+                unaccelerated.incrementAndGet();
+            }
+            event.success = true;
+        }
+        event.commit();
+        return image;
+    }
+    
+    private static byte[] readData(String key) {
+        ByteBuffer packed = archive != null ? archive.get(key) : null;
+        if (packed != null) {
+            byte[] bytes = new byte[packed.remaining()];
+            packed.get(bytes);
+            return bytes;
+        }
+        try {
+            File file = resolveFile(key);
+            if (file != null) {
+                return Files.readAllBytes(file.toPath());
+            }
+        } catch (Exception ex) {
+        }
+        return null;
+    }
+    
+    public static void evict(String path) {
+        images.remove(normalizePath(path));
+    }
+    
+    public static long getHitCount() {
+        return hits.get();
+    }
+    
+    public static long getMissCount() {
+        return misses.get();
+    }
+    
+    public static int getCachedImageCount() {
+        return images.size();
+    }
+    
+    public static long getUnacceleratedImageCount() {
+        return unaccelerated.get();
+    }
+}
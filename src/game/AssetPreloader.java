@@ -0,0 +1,57 @@
+package game;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+public class AssetPreloader {
+    private static CompletableFuture<Void> preload;
+    
+    public static synchronized CompletableFuture<Void> start() {
+        if (preload != null) {
+            return preload;
+        }
+        
+        long startTime = System.nanoTime();
+        List<String> imagePaths = collectImagePaths();
+        List<String> soundPaths = collectSoundPaths();
+        
+        List<CompletableFuture<?>> tasks = new ArrayList<>();
+        for (String path : imagePaths) {
+            tasks.add(AssetManager.loadImageAsync(path));
+        }
+        for (String path : soundPaths) {
+            tasks.add(SoundManager.preload(path));
+        }
+        tasks.add(AssetManager.runAsync(FontManager::preload));
+        
+        int count = tasks.size();
+        preload = CompletableFuture.allOf(tasks.toArray(CompletableFuture<?>[]::new)).thenRun(() -> {
+            long elapsedMs = (System.nanoTime() - startTime) / 1_000_000;
+            System.out.println("Preloaded " + count + " assets in " + elapsedMs + " ms");
+        });
+        return preload;
+    }
+    
+    public static List<String> collectImagePaths() {
+        Set<String> paths = new LinkedHashSet<>();
+        for (GameConfig.HoverObject config : GameConfig.HOVER_OBJECTS) {
+            paths.add(config.imagePath);
+        }
+        paths.add(GameConfig.BACKGROUND_IMAGE);
+        paths.add(GameConfig.HOVER_UI_IMAGE);
+        paths.addAll(Player.getImagePaths());
+        paths.addAll(MainMenu.getImagePaths());
+        paths.addAll(CursorManager.getImagePaths());
+        return new ArrayList<>(paths);
+    }
+    
+    public static List<String> collectSoundPaths() {
+        Set<String> paths = new LinkedHashSet<>();
+        paths.add(GameConfig.HOVER_SOUND);
+        paths.addAll(MainMenu.getSoundPaths());
+        return new ArrayList<>(paths);
+    }
+}
@@ -1,34 +1,25 @@
 
 package game;
 
-import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
 import java.io.IOException;
 import java.io.InputStream;
 
 public class BackgroundManager {
     private BufferedImage mapImage;
+    private BufferedImage scaledImage;
+    private BufferedImage scaledSource;
+    private VolatileImage layer;
+    private boolean layerDirty;
     
     public BackgroundManager() {
         loadMapImage();
     }
     
     private void loadMapImage() {
-        try {
-            String fullPath = System.getProperty("user.dir") + java.io.File.separator + GameConfig.BACKGROUND_IMAGE;
-            Image tempImage = Toolkit.getDefaultToolkit().createImage(fullPath);
-            
-            MediaTracker tracker = new MediaTracker(new java.awt.Container());
-            tracker.addImage(tempImage, 0);
-            tracker.waitForID(0);
-            
-            mapImage = new BufferedImage(tempImage.getWidth(null), tempImage.getHeight(null), BufferedImage.TYPE_INT_ARGB);
-            Graphics2D g = mapImage.createGraphics();
-            g.drawImage(tempImage, 0, 0, null);
-            g.dispose();
-        } catch (Exception ex) {
-        }
+        mapImage = AssetManager.getImage(GameConfig.BACKGROUND_IMAGE);
     }
     
     public void render(Graphics2D g2d, int screenWidth, int screenHeight) {
@@ -37,6 +28,39 @@ public class BackgroundManager {
             return;
         }
         
+        GraphicsConfiguration gc = g2d.getDeviceConfiguration();
+        if (scaledImage == null || scaledImage.getWidth() != screenWidth || scaledImage.getHeight() != screenHeight || scaledSource != mapImage) {
+            rebuildScaledImage(gc, screenWidth, screenHeight);
+        }
+        
+        do {
+            boolean contentsInvalid = false;
+            if (layer == null || layer.getWidth() != screenWidth || layer.getHeight() != screenHeight) {
+                layer = gc.createCompatibleVolatileImage(screenWidth, screenHeight, Transparency.OPAQUE);
+                contentsInvalid = true;
+            }
+            
+            int status = layer.validate(gc);
+            if (status == VolatileImage.IMAGE_INCOMPATIBLE) {
+                layer.flush();
+                layer = gc.createCompatibleVolatileImage(screenWidth, screenHeight, Transparency.OPAQUE);
+                contentsInvalid = true;
+            } else if (status == VolatileImage.IMAGE_RESTORED) {
+                contentsInvalid = true;
+            }
+            
+            if (contentsInvalid || layerDirty) {
+                Graphics2D lg = layer.createGraphics();
+                lg.drawImage(scaledImage, 0, 0, null);
+                lg.dispose();
+                layerDirty = false;
+            }
+            
+            g2d.drawImage(layer, 0, 0, null);
+        } while (layer.contentsLost());
+    }
+    
+    private void rebuildScaledImage(GraphicsConfiguration gc, int screenWidth, int screenHeight) {
         int imageWidth = mapImage.getWidth();
         int imageHeight = mapImage.getHeight();
         
@@ -50,7 +74,20 @@ public class BackgroundManager {
         int x = (screenWidth - scaledWidth) / 2;
         int y = (screenHeight - scaledHeight) / 2;
         
-        g2d.drawImage(mapImage, x, y, scaledWidth, scaledHeight, null);
+        if (scaledImage != null) {
+            scaledImage.flush();
+        }
+        scaledImage = gc.createCompatibleImage(screenWidth, screenHeight, Transparency.OPAQUE);
+        Graphics2D g = scaledImage.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g.setColor(Color.BLACK);
+        g.fillRect(0, 0, screenWidth, screenHeight);
+        g.drawImage(mapImage, x, y, scaledWidth, scaledHeight, null);
+        g.dispose();
+        
+        scaledSource = mapImage;
+        layerDirty = true;
     }
     
     private void renderDefaultBackground(Graphics2D g2d, int screenWidth, int screenHeight) {
@@ -61,10 +98,10 @@ public class BackgroundManager {
         g2d.fillRect(0, screenHeight * 4 / 5, screenWidth, screenHeight / 5);
         
         g2d.setColor(Color.WHITE);
-        g2d.setFont(FontManager.getThaiFont(Font.BOLD, 24));
-        FontMetrics fm = g2d.getFontMetrics();
+        Font font = FontManager.getThaiFont(Font.BOLD, 24);
+        g2d.setFont(font);
         String errorMessage = "Map image not found";
-        int x = (screenWidth - fm.stringWidth(errorMessage)) / 2;
+        int x = (screenWidth - TextMetrics.stringWidth(font, errorMessage)) / 2;
         int y = screenHeight / 2;
         g2d.drawString(errorMessage, x, y);
     }
@@ -72,5 +109,9 @@ public class BackgroundManager {
     public BufferedImage getMapImage() {
         return mapImage;
     }
+    
+    public void setMapImage(BufferedImage mapImage) {
+        this.mapImage = mapImage;
+    }
 }
 
@@ -4,7 +4,7 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.io.File;
-import javax.imageio.ImageIO;
+import java.util.List;
 
 public class CursorManager {
     private static Cursor normalCursor;
@@ -15,6 +15,10 @@ public class CursorManager {
     private static final String POINTER_HOVER = "assets" + File.separator + "pointer" + File.separator + "2_pointer-denied2_USE-THIS-ONE_0.png";
     private static final String POINTER_PRESS = "assets" + File.separator + "pointer" + File.separator + "6_pointer-press_USE-THIS-ONE_0.png";
     
+    public static List<String> getImagePaths() {
+        return List.of(POINTER_NORMAL, POINTER_HOVER, POINTER_PRESS);
+    }
+    
     public static Cursor getNormalCursor() {
         if (normalCursor == null) {
             normalCursor = createCursor(POINTER_NORMAL, 0, 0);
@@ -38,12 +42,8 @@ public class CursorManager {
     
     private static Cursor createCursor(String imagePath, int hotSpotX, int hotSpotY) {
         try {
-            File cursorFile = new File(imagePath);
-            if (!cursorFile.exists()) {
-                cursorFile = new File(System.getProperty("user.dir") + File.separator + imagePath);
-            }
-            if (cursorFile.exists()) {
-                BufferedImage originalImage = ImageIO.read(cursorFile);
+            BufferedImage originalImage = AssetManager.getImage(imagePath);
+            if (originalImage != null) {
                 
                 int scale = 2;
                 int newWidth = originalImage.getWidth() * scale;
@@ -0,0 +1,57 @@
+package game;
+
+import java.awt.Rectangle;
+
+public class DamageTracker {
+    private final Rectangle dirty;
+    private boolean empty;
+    private boolean full;
+    
+    public DamageTracker() {
+        dirty = new Rectangle();
+        empty = true;
+        full = false;
+    }
+    
+    public synchronized void add(int x, int y, int width, int height) {
+        if (full || width <= 0 || height <= 0) {
+            return;
+        }
+        if (empty) {
+            dirty.setBounds(x, y, width, height);
+            empty = false;
+        } else {
+            dirty.add(new Rectangle(x, y, width, height));
+        }
+    }
+    
+    public void add(Rectangle region) {
+        if (region != null) {
+            add(region.x, region.y, region.width, region.height);
+        }
+    }
+    
+    public synchronized void addAll() {
+        full = true;
+        empty = false;
+    }
+    
+    public synchronized boolean isEmpty() {
+        return empty;
+    }
+    
+    public synchronized Rectangle consume(int width, int height) {
+        if (empty) {
+            return null;
+        }
+        
+        Rectangle region = full ? new Rectangle(0, 0, width, height) : dirty.intersection(new Rectangle(0, 0, width, height));
+        empty = true;
+        full = false;
+        
+        if (region.isEmpty()) {
+            return null;
+        }
+        return region;
+    }
+}
@@ -2,29 +2,66 @@ package game;
 
 import java.awt.Font;
 import java.io.File;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 public class FontManager {
-    private static Font thaiFont;
+    private static final int DERIVED_FONT_LIMIT = 32;
     
-    public static Font getThaiFont(int style, int size) {
-        if (thaiFont == null) {
-            try {
-                String fontPath = "assets" + File.separator + "font" + File.separator + "NotoSerifThai-Regular.ttf";
-                File fontFile = new File(fontPath);
-                if (!fontFile.exists()) {
-                    fontFile = new File(System.getProperty("user.dir") + File.separator + fontPath);
+    private static volatile Font thaiFont;
+    private static final LinkedHashMap<Long, Font> derivedFonts = new LinkedHashMap<>(DERIVED_FONT_LIMIT, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Font> eldest) {
+            return size() > DERIVED_FONT_LIMIT;
+        }
+    };
+    
+    public static void preload() {
+        getBaseFont();
+    }
+    
+    private static Font getBaseFont() {
+        Font font = thaiFont;
+        if (font == null) {
+            synchronized (FontManager.class) {
+                if (thaiFont == null) {
+                    thaiFont = loadBaseFont();
                 }
-                if (fontFile.exists()) {
-                    thaiFont = Font.createFont(Font.TRUETYPE_FONT, fontFile);
-                } else {
-                    thaiFont = new Font("Arial", Font.PLAIN, size);
+                font = thaiFont;
+            }
+        }
+        return font;
+    }
+    
+    private static Font loadBaseFont() {
+        try {
+            String fontPath = "assets" + File.separator + "font" + File.separator + "NotoSerifThai-Regular.ttf";
+            InputStream packed = AssetManager.openPacked(fontPath);
+            if (packed != null) {
+                try (packed) {
+                    return Font.createFont(Font.TRUETYPE_FONT, packed);
                 }
-            } catch (Exception ex) {
-                thaiFont = new Font("Arial", Font.PLAIN, size);
             }
+            File fontFile = AssetManager.resolveFile(fontPath);
+            if (fontFile != null) {
+                return Font.createFont(Font.TRUETYPE_FONT, fontFile);
+            }
+        } catch (Exception ex) {
+        }
+        return new Font("Arial", Font.PLAIN, 12);
+    }
+    
+    public static Font getThaiFont(int style, int size) {
+        long key = ((long) style << 32) | (size & 0xffffffffL);
+        synchronized (derivedFonts) {
+            Font font = derivedFonts.get(key);
+            if (font == null) {
+                font = getBaseFont().deriveFont(style, size);
+                derivedFonts.put(key, font);
+            }
+            return font;
         }
-        
-        return thaiFont.deriveFont(style, size);
     }
     
     public static Font getThaiFont(int size) {
@@ -9,6 +9,11 @@ public class GameConfig {
     
     public static final String BACKGROUND_IMAGE = "assets" + java.io.File.separator + "background" + java.io.File.separator + "NewTimesMapMock4a.png";
     public static final String HOVER_SOUND = "assets" + java.io.File.separator + "sfx" + java.io.File.separator + "Button Select.wav";
+    public static final String HOVER_UI_IMAGE = "assets" + java.io.File.separator + "ui" + java.io.File.separator + "Input-Field-Small-White_0.png";
+    public static final String ROUTE_CACHE_FILE = "cache" + java.io.File.separator + "routes.bin";
+    public static final String IMAGE_CACHE_DIR = "cache" + java.io.File.separator + "images";
+    public static final String ASSET_ARCHIVE = data.AssetArchive.DEFAULT_FILE;
+    public static final String SCENE_FILE = "assets" + java.io.File.separator + "data" + java.io.File.separator + "scene.txt";
 
     public static final HoverObject[] HOVER_OBJECTS = {
             new HoverObject("assets" + java.io.File.separator + "obj" + java.io.File.separator + "gym.png", "ยิม", 484.0, 172.0, 279.0, 243.0, 0.0, 697.0, 389.0, "BACK"),
@@ -0,0 +1,133 @@
+package game;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+public class GameEvents {
+    @Name("nobrakeslife.Frame")
+    @Label("Frame")
+    @Category({"No Brakes Life", "Rendering"})
+    @Description("One pass of the game loop render step, from damage collection to show()")
+    @StackTrace(false)
+    public static class FrameEvent extends Event {
+        @Label("Painted")
+        public boolean painted;
+        
+        @Label("Dirty Width")
+        public int dirtyWidth;
+        
+        @Label("Dirty Height")
+        public int dirtyHeight;
+        
+        @Label("Interpolation")
+        public double alpha;
+    }
+    
+    @Name("nobrakeslife.PaintPhase")
+    @Label("Paint Phase")
+    @Category({"No Brakes Life", "Rendering"})
+    @StackTrace(false)
+    public static class PaintPhaseEvent extends Event {
+        @Label("Phase")
+        public String phase;
+    }
+    
+    @Name("nobrakeslife.ImageDecode")
+    @Label("Image Decode")
+    @Category({"No Brakes Life", "Assets"})
+    public static class ImageDecodeEvent extends Event {
+        @Label("Path")
+        public String path;
+        
+        @Label("File Size")
+        @DataAmount
+        public long fileSize;
+        
+        @Label("Width")
+        public int width;
+        
+        @Label("Height")
+        public int height;
+        
+        @Label("Transparency")
+        public String transparency;
+        
+        @Label("Converted")
+        @Description("The decoded pixel layout was copied into a display-compatible image")
+        public boolean converted;
+        
+        @Label("From Cache")
+        @Description("Pixels were read from the decoded-image disk cache instead of the source file")
+        public boolean cached;
+        
+        @Label("Accelerated")
+        @Description("The image matches the screen's compatible color model and can be cached in video memory")
+        public boolean accelerated;
+        
+        @Label("Success")
+        public boolean success;
+        
+        @Label("Error")
+        public String error;
+    }
+    
+    @Name("nobrakeslife.ClipOpen")
+    @Label("Clip Open")
+    @Category({"No Brakes Life", "Audio"})
+    public static class ClipOpenEvent extends Event {
+        @Label("Sound")
+        public String path;
+        
+        @Label("PCM Size")
+        @DataAmount
+        public long pcmSize;
+        
+        @Label("Success")
+        public boolean success;
+        
+        @Label("Error")
+        public String error;
+    }
+    
+    @Name("nobrakeslife.RoutePlan")
+    @Label("Route Plan")
+    @Category({"No Brakes Life", "Navigation"})
+    @StackTrace(false)
+    public static class RoutePlanEvent extends Event {
+        @Label("From X")
+        public double fromX;
+        
+        @Label("From Y")
+        public double fromY;
+        
+        @Label("To X")
+        public double toX;
+        
+        @Label("To Y")
+        public double toY;
+        
+        @Label("Waypoints")
+        public int waypoints;
+        
+        @Label("Source")
+        @Description("table for a precomputed entrance route, astar for a live search")
+        public String source;
+    }
+    
+    @Name("nobrakeslife.RouteTableLoad")
+    @Label("Route Table Load")
+    @Category({"No Brakes Life", "Navigation"})
+    @StackTrace(false)
+    public static class RouteTableLoadEvent extends Event {
+        @Label("Entrances")
+        public int entrances;
+        
+        @Label("From Cache")
+        public boolean cached;
+    }
+}
@@ -0,0 +1,83 @@
+package game;
+
+import java.util.concurrent.locks.LockSupport;
+
+public class GameLoop implements Runnable {
+    public static final int TICKS_PER_SECOND = 60;
+    public static final long TICK_NANOS = 1_000_000_000L / TICKS_PER_SECOND;
+    public static final double TICK_SECONDS = 1.0 / TICKS_PER_SECOND;
+    
+    private static final int MAX_TICKS_PER_FRAME = 5;
+    private static final int MAX_FRAMES_PER_SECOND = 144;
+    
+    public interface Target {
+        void tick(double dt);
+        
+        void renderFrame(double alpha);
+    }
+    
+    private final Target target;
+    private final long frameNanos;
+    private volatile boolean running;
+    private Thread thread;
+    
+    public GameLoop(Target target) {
+        this(target, MAX_FRAMES_PER_SECOND);
+    }
+    
+    public GameLoop(Target target, int maxFramesPerSecond) {
+        this.target = target;
+        this.frameNanos = 1_000_000_000L / maxFramesPerSecond;
+    }
+    
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this, "game-loop");
+        thread.setDaemon(true);
+        thread.start();
+    }
+    
+    public synchronized void stop() {
+        running = false;
+        if (thread != null && thread != Thread.currentThread()) {
+            try {
+                thread.join(1000);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        thread = null;
+    }
+    
+    public boolean isRunning() {
+        return running;
+    }
+    
+    @Override
+    public void run() {
+        long previous = System.nanoTime();
+        long accumulator = 0;
+        
+        while (running) {
+            long frameStart = System.nanoTime();
+            long elapsed = frameStart - previous;
+            previous = frameStart;
+            
+            accumulator += Math.min(elapsed, TICK_NANOS * MAX_TICKS_PER_FRAME);
+            while (accumulator >= TICK_NANOS) {
+                target.tick(TICK_SECONDS);
+                accumulator -= TICK_NANOS;
+            }
+            
+            target.renderFrame((double) accumulator / TICK_NANOS);
+            
+            long remaining = frameNanos - (System.nanoTime() - frameStart);
+            if (remaining > 0) {
+                LockSupport.parkNanos(remaining);
+            }
+        }
+    }
+}
@@ -1,28 +1,34 @@
 package game;
 
-import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
-import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.awt.MediaTracker;
 
-public class GameObject {
+public class GameObject implements HitArea {
     private BufferedImage image;
+    private SpriteRegion sprite;
+    private String imagePath;
     private double x;
     private double y;
     private double width;
     private double height;
     private double rotation;
     
+    private BufferedImage transformedImage;
+    private Rectangle transformedBounds;
+    private double transformedFractionX;
+    private double transformedFractionY;
+    
     public GameObject(String imagePath, double x, double y, double width, double height) {
         this.x = x;
         this.y = y;
         this.width = width;
         this.height = height;
         this.rotation = 0.0;
+        this.imagePath = imagePath;
         
         loadImage(imagePath);
         
@@ -34,6 +40,7 @@ public class GameObject {
     
     public GameObject(BufferedImage image, double x, double y, double width, double height) {
         this.image = image;
+        this.sprite = SpriteRegion.of(image);
         this.x = x;
         this.y = y;
         this.width = width;
@@ -42,42 +49,77 @@ public class GameObject {
     }
     
     private void loadImage(String imagePath) {
-        try {
-            BufferedImage img = null;
-            
-            File imgFile = new File(imagePath);
-            if (imgFile.exists()) {
-                img = ImageIO.read(imgFile);
-            } else {
-                String fullPath = System.getProperty("user.dir") + java.io.File.separator + imagePath;
-                File fullPathFile = new File(fullPath);
-                if (fullPathFile.exists()) {
-                    img = ImageIO.read(fullPathFile);
-                }
-            }
-            
-            if (img != null) {
-                image = img;
-            }
-        } catch (Exception ex) {
+        BufferedImage img = AssetManager.getImage(imagePath);
+        if (img != null) {
+            image = img;
+            sprite = TextureAtlas.getRegion(imagePath);
         }
     }
     
     public void render(Graphics2D g2d) {
-        if (image == null) {
+        SpriteRegion current = sprite;
+        if (current == null) {
+            return;
+        }
+        
+        double originX = Math.floor(x);
+        double originY = Math.floor(y);
+        if (rotation == 0 && originX == x && originY == y) {
+            current.draw(g2d, (int) originX, (int) originY);
             return;
         }
         
-        AffineTransform originalTransform = g2d.getTransform();
+        BufferedImage cached = transformedImage;
+        Rectangle bounds = transformedBounds;
+        if (cached == null || bounds == null || transformedFractionX != x - originX || transformedFractionY != y - originY) {
+            bounds = new Rectangle();
+            cached = buildTransformedImage(g2d, current, x - originX, y - originY, bounds);
+        }
+        g2d.drawImage(cached, (int) originX + bounds.x, (int) originY + bounds.y, null);
+    }
+    
+    private BufferedImage buildTransformedImage(Graphics2D target, SpriteRegion source, double fractionX, double fractionY, Rectangle bounds) {
+        AffineTransform transform = new AffineTransform();
+        transform.translate(fractionX + width / 2, fractionY + height / 2);
+        transform.rotate(Math.toRadians(rotation));
+        transform.translate(-width / 2, -height / 2);
+        
+        bounds.setBounds(transform.createTransformedShape(new Rectangle(0, 0, source.getWidth(), source.getHeight())).getBounds());
+        bounds.grow(1, 1);
+        
+        BufferedImage transformed = target.getDeviceConfiguration().createCompatibleImage(bounds.width, bounds.height, Transparency.TRANSLUCENT);
+        Graphics2D g2d = transformed.createGraphics();
+        g2d.setRenderingHints(target.getRenderingHints());
+        g2d.translate(-bounds.x, -bounds.y);
+        g2d.transform(transform);
+        source.draw(g2d, 0, 0);
+        g2d.dispose();
+        
+        transformedImage = transformed;
+        transformedBounds = bounds;
+        transformedFractionX = fractionX;
+        transformedFractionY = fractionY;
+        return transformed;
+    }
+    
+    private void invalidateTransformedImage() {
+        transformedImage = null;
+        transformedBounds = null;
+    }
+    
+    public Rectangle getRenderBounds() {
+        if (image == null) {
+            return new Rectangle();
+        }
         
         AffineTransform transform = new AffineTransform();
         transform.translate(x + width / 2, y + height / 2);
         transform.rotate(Math.toRadians(rotation));
         transform.translate(-width / 2, -height / 2);
         
-        g2d.setTransform(transform);
-        g2d.drawImage(image, 0, 0, image.getWidth(), image.getHeight(), null);
-        g2d.setTransform(originalTransform);
+        Rectangle bounds = transform.createTransformedShape(new Rectangle(0, 0, image.getWidth(), image.getHeight())).getBounds();
+        bounds.grow(1, 1);
+        return bounds;
     }
     
     public boolean contains(double mx, double my) {
@@ -113,6 +155,7 @@ public class GameObject {
     
     public void setWidth(double width) {
         this.width = width;
+        invalidateTransformedImage();
     }
     
     public double getHeight() {
@@ -121,6 +164,11 @@ public class GameObject {
     
     public void setHeight(double height) {
         this.height = height;
+        invalidateTransformedImage();
+    }
+    
+    public String getImagePath() {
+        return imagePath;
     }
     
     public double getRotation() {
@@ -129,6 +177,7 @@ public class GameObject {
     
     public void setRotation(double rotation) {
         this.rotation = rotation;
+        invalidateTransformedImage();
     }
     
     public BufferedImage getImage() {
@@ -137,6 +186,8 @@ public class GameObject {
     
     public void setImage(BufferedImage image) {
         this.image = image;
+        this.sprite = SpriteRegion.of(image);
+        invalidateTransformedImage();
     }
     
     public void translate(double dx, double dy) {
@@ -147,10 +198,12 @@ public class GameObject {
     public void scale(double factor) {
         this.width *= factor;
         this.height *= factor;
+        invalidateTransformedImage();
     }
     
     public void rotate(double angle) {
         this.rotation += angle;
+        invalidateTransformedImage();
     }
 }
 
@@ -2,91 +2,256 @@ package game;
 
 import editor.Waypoint;
 
+import java.io.File;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Objects;
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.io.File;
-import javax.imageio.ImageIO;
 
 public class GameScene {
+    private static final int TOOLTIP_WIDTH = 250;
+    private static final int TOOLTIP_HEIGHT = 50;
+    
+    private final GameWorld world;
     private ArrayList<GameObject> hoverObjects;
-    private ArrayList<String> objectNames;
+    private ArrayList<String> objectIds;
+    private ArrayList<ArrayList<Waypoint>> paths;
+    private GameConfig.HoverObject[] entrances;
     private Point mousePosition;
-    private int currentHoverIndex;
+    private int renderedHoverIndex;
+    private Rectangle hoverUIBounds;
+    private Rectangle renderedHoverUIBounds;
+    private final HashMap<String, BufferedImage> tooltipSprites;
     private Player player;
-    private ArrayList<ArrayList<Waypoint>> allPaths;
     
     public GameScene() {
+        this(GameConfig.getWaypointPaths());
+    }
+    
+    private GameScene(ArrayList<ArrayList<Waypoint>> paths) {
+        this(GameWorld.load(new PlayerState(980.0, 401.0), paths, GameConfig.HOVER_OBJECTS, new File(GameConfig.ROUTE_CACHE_FILE)));
+        this.paths = paths;
+        this.entrances = GameConfig.HOVER_OBJECTS;
+    }
+    
+    public GameScene(GameWorld world) {
+        this.world = world;
         hoverObjects = new ArrayList<>();
-        objectNames = new ArrayList<>();
+        objectIds = new ArrayList<>();
         mousePosition = new Point(0, 0);
-        currentHoverIndex = -1;
-        player = new Player(980.0, 401.0);
-        allPaths = GameConfig.getWaypointPaths();
+        renderedHoverIndex = -1;
+        hoverUIBounds = new Rectangle();
+        renderedHoverUIBounds = new Rectangle();
+        tooltipSprites = new HashMap<>();
+        player = new Player(world.getPlayer());
+        
+        world.setListener((previousIndex, currentIndex) -> {
+            if (currentIndex != -1) {
+                SoundManager.play(GameConfig.HOVER_SOUND);
+            }
+        });
     }
     
     public void addHoverObject(GameObject obj, String name) {
         hoverObjects.add(obj);
-        objectNames.add(name);
-    }
-    
-    public void updateMousePosition(int x, int y) {
-        mousePosition.setLocation(x, y);
+        objectIds.add(null);
+        world.addArea(obj, name);
     }
     
-    public void render(Graphics2D g2d) {
-        boolean anyHovering = false;
-        String hoverName = null;
-        int hoverIndex = -1;
-        
+    public String applyDefinition(SceneDefinition definition) {
+        HashMap<String, GameObject> live = new HashMap<>();
         for (int i = 0; i < hoverObjects.size(); i++) {
-            GameObject obj = hoverObjects.get(i);
-            if (isHovering(obj)) {
-                obj.render(g2d);
-                anyHovering = true;
-                hoverName = objectNames.get(i);
-                hoverIndex = i;
-                break;
+            if (objectIds.get(i) != null) {
+                live.put(objectIds.get(i), hoverObjects.get(i));
+            }
+        }
+        
+        ArrayList<GameObject> objects = new ArrayList<>(definition.getObjectCount());
+        ArrayList<String> ids = new ArrayList<>(definition.getObjectCount());
+        ArrayList<String> names = new ArrayList<>(definition.getObjectCount());
+        int added = 0;
+        int moved = 0;
+        for (int i = 0; i < definition.getObjectCount(); i++) {
+            GameConfig.HoverObject config = definition.getObject(i);
+            GameObject obj = live.remove(definition.getId(i));
+            if (obj == null || !Objects.equals(obj.getImagePath(), config.imagePath)) {
+                obj = new GameObject(config.imagePath, config.x, config.y, config.width, config.height);
+                obj.setRotation(config.rotation);
+                added++;
+            } else if (obj.getX() != config.x || obj.getY() != config.y || obj.getWidth() != config.width
+                    || obj.getHeight() != config.height || obj.getRotation() != config.rotation) {
+                obj.setX(config.x);
+                obj.setY(config.y);
+                obj.setWidth(config.width);
+                obj.setHeight(config.height);
+                obj.setRotation(config.rotation);
+                moved++;
             }
+            objects.add(obj);
+            ids.add(definition.getId(i));
+            names.add(config.name);
         }
+        int removed = live.size();
         
-        player.update();
-        player.render(g2d);
+        hoverObjects = objects;
+        objectIds = ids;
+        world.setAreas(objects, names);
+        tooltipSprites.keySet().retainAll(names);
+        renderedHoverIndex = -1;
         
-        if (anyHovering && hoverIndex != currentHoverIndex) {
-            playSound(GameConfig.HOVER_SOUND);
-            currentHoverIndex = hoverIndex;
-        } else if (!anyHovering) {
-            currentHoverIndex = -1;
+        GameConfig.HoverObject[] newEntrances = definition.getEntrances();
+        boolean entrancesMoved = !sameEntrances(entrances, newEntrances);
+        int waypointChanges = applyPaths(definition.getPaths());
+        entrances = newEntrances;
+        if (entrancesMoved || waypointChanges > 0) {
+            NavGraph navGraph = new NavGraph(paths);
+            RouteTable routeTable = RouteTable.load(paths, navGraph, entrances, new File(GameConfig.ROUTE_CACHE_FILE));
+            world.setNavigation(entrances, navGraph, routeTable);
+        } else {
+            world.setNavigation(entrances, world.getNavGraph(), world.getRouteTable());
         }
         
-        if (anyHovering && hoverName != null) {
-            renderHoverUI(g2d, hoverName);
+        return "objects +" + added + " -" + removed + " ~" + moved + ", waypoints changed " + waypointChanges
+            + (entrancesMoved || waypointChanges > 0 ? ", navigation rebuilt" : "");
+    }
+    
+    private int applyPaths(ArrayList<ArrayList<Waypoint>> target) {
+        if (paths == null) {
+            paths = new ArrayList<>();
         }
+        
+        int changes = 0;
+        while (paths.size() > target.size()) {
+            changes += paths.remove(paths.size() - 1).size() + 1;
+        }
+        for (int p = 0; p < target.size(); p++) {
+            if (p == paths.size()) {
+                paths.add(new ArrayList<>());
+                changes++;
+            }
+            ArrayList<Waypoint> livePath = paths.get(p);
+            ArrayList<Waypoint> targetPath = target.get(p);
+            
+            int shared = Math.min(livePath.size(), targetPath.size());
+            for (int i = 0; i < shared; i++) {
+                Waypoint wp = livePath.get(i);
+                Waypoint wanted = targetPath.get(i);
+                if (wp.getX() != wanted.getX() || wp.getY() != wanted.getY()) {
+                    wp.setPosition(wanted.getX(), wanted.getY());
+                    changes++;
+                }
+            }
+            while (livePath.size() > targetPath.size()) {
+                livePath.remove(livePath.size() - 1);
+                changes++;
+            }
+            for (int i = shared; i < targetPath.size(); i++) {
+                livePath.add(targetPath.get(i));
+                changes++;
+            }
+        }
+        return changes;
     }
     
-    private void playSound(String soundPath) {
-        try {
-            File soundFile = new File(soundPath);
-            if (!soundFile.exists()) {
-                soundFile = new File(System.getProperty("user.dir") + java.io.File.separator + soundPath);
+    private static boolean sameEntrances(GameConfig.HoverObject[] a, GameConfig.HoverObject[] b) {
+        if (a == null || a.length != b.length) {
+            return false;
+        }
+        for (int i = 0; i < a.length; i++) {
+            if (a[i].playerX != b[i].playerX || a[i].playerY != b[i].playerY) {
+                return false;
             }
-            if (soundFile.exists()) {
-                javax.sound.sampled.AudioInputStream audioStream = javax.sound.sampled.AudioSystem.getAudioInputStream(soundFile);
-                javax.sound.sampled.Clip clip = javax.sound.sampled.AudioSystem.getClip();
-                clip.open(audioStream);
-                clip.start();
+        }
+        return true;
+    }
+    
+    public void updateMousePosition(int x, int y) {
+        mousePosition.setLocation(x, y);
+        world.setPointer(x, y);
+    }
+    
+    public void update(double dt) {
+        world.update(dt);
+    }
+    
+    public void collectDamage(DamageTracker damage, double alpha) {
+        int currentHoverIndex = world.getHoverIndex();
+        if (currentHoverIndex != renderedHoverIndex) {
+            if (renderedHoverIndex != -1 && renderedHoverIndex < hoverObjects.size()) {
+                damage.add(hoverObjects.get(renderedHoverIndex).getRenderBounds());
+            }
+            if (currentHoverIndex != -1) {
+                damage.add(hoverObjects.get(currentHoverIndex).getRenderBounds());
             }
-        } catch (Exception ex) {
+            renderedHoverIndex = currentHoverIndex;
+        }
+        
+        if (currentHoverIndex != -1) {
+            computeHoverUIBounds(hoverUIBounds);
+        } else {
+            hoverUIBounds.setBounds(0, 0, 0, 0);
+        }
+        if (!hoverUIBounds.equals(renderedHoverUIBounds)) {
+            damage.add(renderedHoverUIBounds);
+            damage.add(hoverUIBounds);
+            renderedHoverUIBounds.setBounds(hoverUIBounds);
+        }
+        
+        player.collectDamage(damage, alpha);
+    }
+    
+    public void render(Graphics2D g2d, double alpha) {
+        int currentHoverIndex = world.getHoverIndex();
+        if (currentHoverIndex != -1) {
+            hoverObjects.get(currentHoverIndex).render(g2d);
+        }
+        
+        player.render(g2d, alpha);
+    }
+    
+    public void renderUI(Graphics2D g2d) {
+        int currentHoverIndex = world.getHoverIndex();
+        if (currentHoverIndex != -1) {
+            renderHoverUI(g2d, world.getName(currentHoverIndex));
         }
     }
     
     private void renderHoverUI(Graphics2D g2d, String name) {
+        BufferedImage sprite = tooltipSprites.get(name);
+        if (sprite == null) {
+            sprite = createTooltipSprite(g2d.getDeviceConfiguration(), name);
+            if (sprite == null) return;
+            tooltipSprites.put(name, sprite);
+        }
+        
+        computeHoverUIBounds(hoverUIBounds);
+        g2d.drawImage(sprite, hoverUIBounds.x, hoverUIBounds.y, null);
+    }
+    
+    private BufferedImage createTooltipSprite(GraphicsConfiguration gc, String name) {
         BufferedImage uiField = loadUI();
-        if (uiField == null) return;
+        if (uiField == null) return null;
         
-        int uiWidth = 250;
-        int uiHeight = 50;
+        BufferedImage sprite = gc.createCompatibleImage(TOOLTIP_WIDTH, TOOLTIP_HEIGHT, Transparency.TRANSLUCENT);
+        Graphics2D g2d = sprite.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g2d.drawImage(uiField, 0, 0, TOOLTIP_WIDTH, TOOLTIP_HEIGHT, null);
+        
+        g2d.setColor(Color.BLACK);
+        Font font = FontManager.getThaiFont(Font.BOLD, 20);
+        g2d.setFont(font);
+        int textX = (TOOLTIP_WIDTH - TextMetrics.stringWidth(font, name)) / 2;
+        int textY = TOOLTIP_HEIGHT / 2 + TextMetrics.getAscent(font, name) / 4;
+        g2d.drawString(name, textX, textY);
+        g2d.dispose();
+        return sprite;
+    }
+    
+    private void computeHoverUIBounds(Rectangle bounds) {
+        int uiWidth = TOOLTIP_WIDTH;
+        int uiHeight = TOOLTIP_HEIGHT;
         int uiX = mousePosition.x + 30;
         int uiY = mousePosition.y + 30;
         
@@ -97,43 +262,19 @@ public class GameScene {
             uiY = mousePosition.y - uiHeight - 30;
         }
         
-        g2d.drawImage(uiField, uiX, uiY, uiWidth, uiHeight, null);
-        
-        g2d.setColor(Color.BLACK);
-        g2d.setFont(FontManager.getThaiFont(Font.BOLD, 20));
-        FontMetrics fm = g2d.getFontMetrics();
-        int textX = uiX + (uiWidth - fm.stringWidth(name)) / 2;
-        int textY = uiY + uiHeight / 2 + fm.getAscent() / 4;
-        g2d.drawString(name, textX, textY);
+        bounds.setBounds(uiX, uiY, uiWidth, uiHeight);
     }
     
     private BufferedImage loadUI() {
-        try {
-            String path = "assets" + java.io.File.separator + "ui" + java.io.File.separator + "Input-Field-Small-White_0.png";
-            File file = new File(path);
-            if (!file.exists()) {
-                file = new File(System.getProperty("user.dir") + java.io.File.separator + path);
-            }
-            if (file.exists()) {
-                return ImageIO.read(file);
-            }
-        } catch (Exception ex) {
-        }
-        return null;
+        return AssetManager.getImage(GameConfig.HOVER_UI_IMAGE);
     }
     
-    private boolean isHovering(GameObject obj) {
-        double cx = obj.getX() + obj.getWidth() / 2;
-        double cy = obj.getY() + obj.getHeight() / 2;
-        
-        double dx = mousePosition.x - cx;
-        double dy = mousePosition.y - cy;
-        
-        double distance = Math.sqrt(dx * dx + dy * dy);
-        
-        double radius = Math.min(obj.getWidth(), obj.getHeight()) / 2;
-        
-        return distance <= radius;
+    public int findObjectAt(double x, double y) {
+        return world.findObjectAt(x, y);
+    }
+    
+    public void invalidateHitIndex() {
+        world.invalidateHitIndex();
     }
     
     public ArrayList<GameObject> getHoverObjects() {
@@ -141,12 +282,7 @@ public class GameScene {
     }
     
     public boolean isHoveringAny() {
-        for (GameObject obj : hoverObjects) {
-            if (isHovering(obj)) {
-                return true;
-            }
-        }
-        return false;
+        return findObjectAt(mousePosition.x, mousePosition.y) != -1;
     }
     
     public Point getMousePosition() {
@@ -154,34 +290,14 @@ public class GameScene {
     }
     
     public void handleClick(int x, int y) {
-        for (int i = 0; i < hoverObjects.size(); i++) {
-            GameObject obj = hoverObjects.get(i);
-            if (isClicking(obj, x, y)) {
-                GameConfig.HoverObject config = GameConfig.HOVER_OBJECTS[i];
-                double targetX = config.playerX;
-                double targetY = config.playerY;
-                player.setDirection(config.direction);
-                player.setDestination(targetX, targetY, allPaths);
-                break;
-            }
-        }
+        world.click(x, y);
     }
     
-    private boolean isClicking(GameObject obj, int x, int y) {
-        double cx = obj.getX() + obj.getWidth() / 2;
-        double cy = obj.getY() + obj.getHeight() / 2;
-        
-        double dx = x - cx;
-        double dy = y - cy;
-        double distance = Math.sqrt(dx * dx + dy * dy);
-        
-        double radius = Math.min(obj.getWidth(), obj.getHeight()) / 2;
-        
-        return distance <= radius;
+    public GameWorld getWorld() {
+        return world;
     }
     
     public Player getPlayer() {
         return player;
     }
 }
-
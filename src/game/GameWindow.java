@@ -3,6 +3,10 @@ package game;
 
 import javax.swing.*;
 import java.awt.*;
+import java.awt.image.BufferStrategy;
+import java.io.File;
+import java.awt.event.KeyAdapter;
+import java.awt.event.KeyEvent;
 import java.awt.event.MouseListener;
 import java.awt.event.MouseMotionListener;
 import java.awt.event.MouseWheelListener;
@@ -44,16 +48,24 @@ public class GameWindow extends JFrame {
         return gamePanel;
     }
     
-    public static class GamePanel extends JPanel {
+    public static class GamePanel extends Canvas implements GameLoop.Target {
+        private static final String[] PHASE_NAMES = {"background", "editor", "scene", "ui"};
+        
         private BackgroundManager backgroundManager;
         private EditorManager editorManager;
         private GameScene scene;
         private MouseHandler handler;
+        private GameLoop gameLoop;
+        private DamageTracker damage;
+        private PerfHud hud;
+        private SceneWatcher sceneWatcher;
+        private final Object sceneLock = new Object();
         
         public GamePanel() {
+            damage = new DamageTracker();
+            hud = new PerfHud();
+            
             setPreferredSize(new Dimension(GameConfig.WINDOW_WIDTH, GameConfig.WINDOW_HEIGHT));
-            setLayout(null);
-            setDoubleBuffered(true);
             
             backgroundManager = new BackgroundManager();
             editorManager = new EditorManager();
@@ -68,45 +80,175 @@ public class GameWindow extends JFrame {
             addMouseMotionListener(handler);
             addMouseWheelListener(handler);
             
+            setFocusable(true);
+            addKeyListener(new KeyAdapter() {
+                @Override
+                public void keyPressed(KeyEvent e) {
+                    if (e.getKeyCode() == KeyEvent.VK_F3) {
+                        hud.toggle();
+                    }
+                }
+            });
+            
             this.handler = handler;
             
-            startAnimationLoop();
+            gameLoop = new GameLoop(this);
+        }
+        
+        @Override
+        public void addNotify() {
+            super.addNotify();
+            createBufferStrategy(2);
+            damage.addAll();
+            gameLoop.start();
+            sceneWatcher.start();
+            requestFocusInWindow();
         }
         
-        private void startAnimationLoop() {
-            javax.swing.Timer timer = new javax.swing.Timer(16, _ -> {
-                if (scene.getPlayer().isMoving()) {
-                    repaint();
+        @Override
+        public void removeNotify() {
+            sceneWatcher.stop();
+            gameLoop.stop();
+            super.removeNotify();
+        }
+        
+        private void loadGameScene() {
+            File sceneFile = new File(GameConfig.SCENE_FILE);
+            scene.applyDefinition(SceneDefinition.load(sceneFile));
+            
+            sceneWatcher = new SceneWatcher(sceneFile.toPath(), definition -> {
+                String summary;
+                synchronized (sceneLock) {
+                    summary = scene.applyDefinition(definition);
                 }
+                System.out.println("Scene reload: " + summary);
+                damage.addAll();
             });
-            timer.start();
         }
         
-        private void loadGameScene() {
-            for (GameConfig.HoverObject config : GameConfig.HOVER_OBJECTS) {
-                GameObject obj = new GameObject(config.imagePath, config.x, config.y, config.width, config.height);
-                obj.setRotation(config.rotation);
-                scene.addHoverObject(obj, config.name);
+        @Override
+        public void tick(double dt) {
+            synchronized (sceneLock) {
+                scene.update(dt);
             }
         }
         
         @Override
-        protected void paintComponent(Graphics g) {
-            super.paintComponent(g);
+        public void renderFrame(double alpha) {
+            long frameStart = System.nanoTime();
             
-            Graphics2D g2d = (Graphics2D) g;
+            BufferStrategy strategy = getBufferStrategy();
+            if (strategy == null) {
+                return;
+            }
+            
+            GameEvents.FrameEvent frame = new GameEvents.FrameEvent();
+            frame.begin();
+            frame.alpha = alpha;
+            
+            if (!isBackBufferPreserved(strategy)) {
+                damage.addAll();
+            }
+            
+            synchronized (sceneLock) {
+                scene.collectDamage(damage, alpha);
+                Point mouse = scene.getMousePosition();
+                hud.collectDamage(damage, mouse.x, mouse.y, frameStart);
+            }
+            
+            Rectangle clip = damage.consume(getWidth(), getHeight());
+            if (clip == null) {
+                frame.commit();
+                return;
+            }
+            frame.dirtyWidth = clip.width;
+            frame.dirtyHeight = clip.height;
+            
+            do {
+                do {
+                    Graphics2D g2d = (Graphics2D) strategy.getDrawGraphics();
+                    try {
+                        g2d.clip(clip);
+                        synchronized (sceneLock) {
+                            render(g2d, alpha);
+                        }
+                    } finally {
+                        g2d.dispose();
+                    }
+                    clip.setBounds(0, 0, getWidth(), getHeight());
+                } while (strategy.contentsRestored());
+                strategy.show();
+            } while (strategy.contentsLost());
+            
+            Toolkit.getDefaultToolkit().sync();
+            hud.framePresented(frameStart, System.nanoTime());
+            
+            frame.painted = true;
+            frame.commit();
+        }
+        
+        private boolean isBackBufferPreserved(BufferStrategy strategy) {
+            BufferCapabilities caps = strategy.getCapabilities();
+            return !caps.isPageFlipping() || caps.getFlipContents() == BufferCapabilities.FlipContents.COPIED;
+        }
+        
+        private void render(Graphics2D g2d, double alpha) {
             g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
             g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
             
+            long start = System.nanoTime();
+            GameEvents.PaintPhaseEvent phase = beginPhase();
             backgroundManager.render(g2d, getWidth(), getHeight());
+            start = endPhase(phase, PerfHud.PHASE_BACKGROUND, start);
+            
+            phase = beginPhase();
             editorManager.render(g2d);
-            scene.render(g2d);
+            start = endPhase(phase, PerfHud.PHASE_EDITOR, start);
+            
+            phase = beginPhase();
+            scene.render(g2d, alpha);
+            start = endPhase(phase, PerfHud.PHASE_SCENE, start);
             
-            g2d.setColor(Color.WHITE);
-            g2d.setFont(FontManager.getThaiFont(Font.BOLD, 16));
-            Point mouse = scene.getMousePosition();
-            String debugText = "X: " + mouse.x + " Y: " + mouse.y;
-            g2d.drawString(debugText, 10, 30);
+            phase = beginPhase();
+            scene.renderUI(g2d);
+            hud.render(g2d);
+            endPhase(phase, PerfHud.PHASE_UI, start);
+        }
+        
+        private GameEvents.PaintPhaseEvent beginPhase() {
+            GameEvents.PaintPhaseEvent event = new GameEvents.PaintPhaseEvent();
+            event.begin();
+            return event;
+        }
+        
+        private long endPhase(GameEvents.PaintPhaseEvent event, int phase, long start) {
+            event.phase = PHASE_NAMES[phase];
+            event.commit();
+            long now = System.nanoTime();
+            hud.phaseFinished(phase, now - start);
+            return now;
+        }
+        
+        @Override
+        public void paint(Graphics g) {
+            damage.addAll();
+        }
+        
+        @Override
+        public void update(Graphics g) {
+            damage.addAll();
+        }
+        
+        @Override
+        public void repaint(long tm, int x, int y, int width, int height) {
+            if (hud != null) {
+                hud.repaintRequested();
+            }
+            damage.add(x, y, width, height);
+        }
+        
+        public Object getSceneLock() {
+            return sceneLock;
         }
         
         public BackgroundManager getBackgroundManager() {
@@ -117,6 +259,10 @@ public class GameWindow extends JFrame {
             return editorManager;
         }
         
+        public PerfHud getPerfHud() {
+            return hud;
+        }
+        
         public GameScene getScene() {
             return scene;
         }
@@ -150,7 +296,9 @@ class MouseHandler implements MouseListener, MouseMotionListener, MouseWheelList
     @Override
     public void mousePressed(java.awt.event.MouseEvent e) {
         isPressed = true;
-        editorManager.handleMousePressed(e);
+        synchronized (panel.getSceneLock()) {
+            editorManager.handleMousePressed(e);
+        }
         
         if (editorManager.isPositionMode() && editorApp != null) {
             editorApp.handlePositionClick(e.getX(), e.getY());
@@ -162,8 +310,12 @@ class MouseHandler implements MouseListener, MouseMotionListener, MouseWheelList
     @Override
     public void mouseDragged(java.awt.event.MouseEvent e) {
         isDragging = true;
-        editorManager.handleMouseDragged(e);
-        panel.repaint();
+        synchronized (panel.getSceneLock()) {
+            editorManager.handleMouseDragged(e);
+        }
+        if (editorManager.isDragging()) {
+            panel.repaint();
+        }
     }
     
     @Override
@@ -176,8 +328,9 @@ class MouseHandler implements MouseListener, MouseMotionListener, MouseWheelList
     
     @Override
     public void mouseClicked(java.awt.event.MouseEvent e) {
-        panel.getScene().handleClick(e.getX(), e.getY());
-        panel.repaint();
+        synchronized (panel.getSceneLock()) {
+            panel.getScene().handleClick(e.getX(), e.getY());
+        }
     }
     
     @Override
@@ -190,14 +343,17 @@ class MouseHandler implements MouseListener, MouseMotionListener, MouseWheelList
     
     @Override
     public void mouseMoved(java.awt.event.MouseEvent e) {
-        panel.getScene().updateMousePosition(e.getX(), e.getY());
+        synchronized (panel.getSceneLock()) {
+            panel.getScene().updateMousePosition(e.getX(), e.getY());
+        }
         panel.setCursor(CursorManager.getNormalCursor());
-        panel.repaint();
     }
     
     @Override
     public void mouseWheelMoved(java.awt.event.MouseWheelEvent e) {
-        editorManager.handleMouseWheel(e);
+        synchronized (panel.getSceneLock()) {
+            editorManager.handleMouseWheel(e);
+        }
         panel.repaint();
     }
 }
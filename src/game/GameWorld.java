@@ -0,0 +1,190 @@
+package game;
+
+import editor.Waypoint;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+public class GameWorld {
+    public interface Listener {
+        void hoverChanged(int previousIndex, int currentIndex);
+    }
+    
+    public static class HoverArea implements HitArea {
+        private final double x;
+        private final double y;
+        private final double width;
+        private final double height;
+        
+        public HoverArea(double x, double y, double width, double height) {
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+        }
+        
+        public double getX() {
+            return x;
+        }
+        
+        public double getY() {
+            return y;
+        }
+        
+        public double getWidth() {
+            return width;
+        }
+        
+        public double getHeight() {
+            return height;
+        }
+    }
+    
+    private final ArrayList<HitArea> areas;
+    private final ArrayList<String> names;
+    private final SpatialGrid hitIndex;
+    private boolean hitIndexDirty;
+    private final PlayerState player;
+    private GameConfig.HoverObject[] entrances;
+    private NavGraph navGraph;
+    private RouteTable routeTable;
+    private double pointerX;
+    private double pointerY;
+    private int hoverIndex;
+    private Listener listener;
+    
+    public GameWorld(PlayerState player, GameConfig.HoverObject[] entrances, NavGraph navGraph, RouteTable routeTable) {
+        this.areas = new ArrayList<>();
+        this.names = new ArrayList<>();
+        this.hitIndex = new SpatialGrid();
+        this.hitIndexDirty = true;
+        this.player = player;
+        this.entrances = entrances;
+        this.navGraph = navGraph;
+        this.routeTable = routeTable;
+        this.hoverIndex = -1;
+    }
+    
+    public static GameWorld load(PlayerState player, ArrayList<ArrayList<Waypoint>> paths, GameConfig.HoverObject[] entrances, File routeCache) {
+        NavGraph navGraph = new NavGraph(paths);
+        return new GameWorld(player, entrances, navGraph, RouteTable.load(paths, navGraph, entrances, routeCache));
+    }
+    
+    public void addConfiguredAreas() {
+        for (GameConfig.HoverObject config : entrances) {
+            addArea(new HoverArea(config.x, config.y, config.width, config.height), config.name);
+        }
+    }
+    
+    public void addArea(HitArea area, String name) {
+        areas.add(area);
+        names.add(name);
+        hitIndexDirty = true;
+    }
+    
+    public void setAreas(List<? extends HitArea> newAreas, List<String> newNames) {
+        areas.clear();
+        areas.addAll(newAreas);
+        names.clear();
+        names.addAll(newNames);
+        hitIndexDirty = true;
+        hoverIndex = findObjectAt(pointerX, pointerY);
+    }
+    
+    public void setNavigation(GameConfig.HoverObject[] entrances, NavGraph navGraph, RouteTable routeTable) {
+        this.entrances = entrances;
+        this.navGraph = navGraph;
+        this.routeTable = routeTable;
+    }
+    
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+    
+    public void setPointer(double x, double y) {
+        pointerX = x;
+        pointerY = y;
+    }
+    
+    public void update(double dt) {
+        int index = findObjectAt(pointerX, pointerY);
+        if (index != hoverIndex) {
+            int previous = hoverIndex;
+            hoverIndex = index;
+            if (listener != null) {
+                listener.hoverChanged(previous, index);
+            }
+        }
+        
+        player.update(dt);
+    }
+    
+    public int click(double x, double y) {
+        int index = findObjectAt(x, y);
+        if (index == -1 || index >= entrances.length) {
+            return -1;
+        }
+        
+        GameConfig.HoverObject config = entrances[index];
+        player.setDirection(config.direction);
+        
+        GameEvents.RoutePlanEvent event = new GameEvents.RoutePlanEvent();
+        event.begin();
+        event.fromX = player.getX();
+        event.fromY = player.getY();
+        event.toX = config.playerX;
+        event.toY = config.playerY;
+        
+        ArrayList<Waypoint> route;
+        int from = player.isMoving() ? -1 : routeTable.findEntrance(player.getX(), player.getY());
+        if (from != -1) {
+            route = routeTable.getRoute(from, index);
+            event.source = "table";
+        } else {
+            route = navGraph.findRoute(player.getX(), player.getY(), config.playerX, config.playerY);
+            event.source = "astar";
+        }
+        event.waypoints = route.size();
+        event.commit();
+        
+        player.followRoute(route);
+        return index;
+    }
+    
+    public int findObjectAt(double x, double y) {
+        if (hitIndexDirty) {
+            hitIndex.rebuild(areas);
+            hitIndexDirty = false;
+        }
+        return hitIndex.query(x, y);
+    }
+    
+    public void invalidateHitIndex() {
+        hitIndexDirty = true;
+    }
+    
+    public int getHoverIndex() {
+        return hoverIndex;
+    }
+    
+    public String getName(int index) {
+        return names.get(index);
+    }
+    
+    public int getAreaCount() {
+        return areas.size();
+    }
+    
+    public PlayerState getPlayer() {
+        return player;
+    }
+    
+    public NavGraph getNavGraph() {
+        return navGraph;
+    }
+    
+    public RouteTable getRouteTable() {
+        return routeTable;
+    }
+}
@@ -0,0 +1,11 @@
+package game;
+
+public interface HitArea {
+    double getX();
+    
+    double getY();
+    
+    double getWidth();
+    
+    double getHeight();
+}
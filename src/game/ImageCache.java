@@ -0,0 +1,113 @@
+package game;
+
+import java.awt.GraphicsConfiguration;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+public class ImageCache {
+    private static final int MAGIC = 0x4E42494D;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 36;
+    
+    public static BufferedImage read(String key, long sourceLength, long sourceModified) {
+        try (FileChannel channel = FileChannel.open(fileFor(key).toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE) {
+                return null;
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION
+                    || buffer.getLong() != sourceLength || buffer.getLong() != sourceModified) {
+                return null;
+            }
+            
+            int width = buffer.getInt();
+            int height = buffer.getInt();
+            int transparency = buffer.getInt();
+            if (width <= 0 || height <= 0 || size != HEADER_SIZE + (long) width * height * 4) {
+                return null;
+            }
+            
+            int[] pixels = new int[width * height];
+            buffer.asIntBuffer().get(pixels);
+            return createImage(width, height, transparency, pixels);
+        } catch (Exception ex) {
+            return null;
+        }
+    }
+    
+    public static void write(String key, long sourceLength, long sourceModified, BufferedImage image) {
+        if (ImageNormalizer.getConfiguration() == null) {
+            return;
+        }
+        
+        int width = image.getWidth();
+        int height = image.getHeight();
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + width * height * 4);
+        buffer.putInt(MAGIC);
+        buffer.putInt(FORMAT_VERSION);
+        buffer.putLong(sourceLength);
+        buffer.putLong(sourceModified);
+        buffer.putInt(width);
+        buffer.putInt(height);
+        buffer.putInt(image.getTransparency());
+        buffer.asIntBuffer().put(image.getRGB(0, 0, width, height, null, 0, width));
+        buffer.rewind();
+        
+        Path temp = null;
+        try {
+            Path target = fileFor(key).toPath();
+            Files.createDirectories(target.getParent());
+            temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (Exception ex) {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (Exception ignored) {
+                }
+            }
+        }
+    }
+    
+    private static BufferedImage createImage(int width, int height, int transparency, int[] pixels) {
+        BufferedImage image = null;
+        GraphicsConfiguration gc = ImageNormalizer.getConfiguration();
+        if (gc != null) {
+            image = gc.createCompatibleImage(width, height, transparency);
+        } else {
+            image = new BufferedImage(width, height, transparency == Transparency.OPAQUE ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+        }
+        
+        int type = image.getType();
+        if (type == BufferedImage.TYPE_INT_ARGB || type == BufferedImage.TYPE_INT_RGB) {
+            image.getRaster().setDataElements(0, 0, width, height, pixels);
+        } else {
+            image.setRGB(0, 0, width, height, pixels, 0, width);
+        }
+        return image;
+    }
+    
+    private static File fileFor(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return new File(GameConfig.IMAGE_CACHE_DIR, String.format("%016x.img", hash));
+    }
+}
@@ -0,0 +1,88 @@
+package game;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+
+public class ImageNormalizer {
+    private static volatile GraphicsConfiguration configuration;
+    
+    public static GraphicsConfiguration getConfiguration() {
+        GraphicsConfiguration gc = configuration;
+        if (gc == null && !GraphicsEnvironment.isHeadless()) {
+            try {
+                gc = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+                configuration = gc;
+            } catch (Exception ex) {
+            }
+        }
+        return gc;
+    }
+    
+    public static BufferedImage createImage(int width, int height, int transparency) {
+        GraphicsConfiguration gc = getConfiguration();
+        if (gc != null) {
+            return gc.createCompatibleImage(width, height, transparency);
+        }
+        return new BufferedImage(width, height, transparency == Transparency.OPAQUE ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB_PRE);
+    }
+    
+    public static BufferedImage normalize(BufferedImage image) {
+        GraphicsConfiguration gc = getConfiguration();
+        if (image == null || gc == null) {
+            return image;
+        }
+        
+        int transparency = detectTransparency(image);
+        if (image.getColorModel().equals(gc.getColorModel(transparency))) {
+            return image;
+        }
+        
+        BufferedImage compatible = gc.createCompatibleImage(image.getWidth(), image.getHeight(), transparency);
+        Graphics2D g2d = compatible.createGraphics();
+        g2d.drawImage(image, 0, 0, null);
+        g2d.dispose();
+        return compatible;
+    }
+    
+    public static boolean isCompatible(BufferedImage image) {
+        GraphicsConfiguration gc = getConfiguration();
+        return gc != null && image.getColorModel().equals(gc.getColorModel(image.getTransparency()));
+    }
+    
+    public static int detectTransparency(BufferedImage image) {
+        if (image.getTransparency() == Transparency.OPAQUE) {
+            return Transparency.OPAQUE;
+        }
+        
+        int width = image.getWidth();
+        int[] row = new int[width];
+        boolean translucent = false;
+        boolean transparent = false;
+        for (int y = 0; y < image.getHeight(); y++) {
+            image.getRGB(0, y, width, 1, row, 0, width);
+            for (int pixel : row) {
+                int alpha = pixel >>> 24;
+                if (alpha == 0) {
+                    transparent = true;
+                } else if (alpha != 255) {
+                    translucent = true;
+                    break;
+                }
+            }
+            if (translucent) {
+                return Transparency.TRANSLUCENT;
+            }
+        }
+        return transparent ? Transparency.BITMASK : Transparency.OPAQUE;
+    }
+    
+    public static String describe(int transparency) {
+        if (transparency == Transparency.OPAQUE) {
+            return "opaque";
+        }
+        return transparency == Transparency.BITMASK ? "bitmask" : "translucent";
+    }
+}
@@ -6,10 +6,15 @@ import java.awt.event.*;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.util.ArrayList;
-import javax.imageio.ImageIO;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class MainMenu extends JFrame {
     private static final String MENU_BACKGROUND = "assets" + java.io.File.separator + "background" + java.io.File.separator + "Score-Screen-Background.png";
+    private static final String BUTTON_PLAY_IMAGE = "assets/ui/button/Button-Big-Blue.png";
+    private static final String BUTTON_GRAY_IMAGE = "assets" + File.separator + "ui" + File.separator + "button" + File.separator + "Button-Big-Gray.png";
+    private static final String HOVER_SOUND = "assets" + File.separator + "sfx" + File.separator + "Button Select.wav";
+    private static final String CLICK_SOUND = "assets" + File.separator + "sfx" + File.separator + "Button Click 1.wav";
     
     private MenuPanel menuPanel;
     
@@ -20,6 +25,18 @@ public class MainMenu extends JFrame {
         centerWindow();
     }
     
+    public static List<String> getImagePaths() {
+        return List.of(MENU_BACKGROUND, BUTTON_PLAY_IMAGE, BUTTON_GRAY_IMAGE, MenuElement.HOVER_IMAGE);
+    }
+    
+    public static List<String> getButtonImagePaths() {
+        return List.of(BUTTON_PLAY_IMAGE, BUTTON_GRAY_IMAGE, MenuElement.HOVER_IMAGE);
+    }
+    
+    public static List<String> getSoundPaths() {
+        return List.of(HOVER_SOUND, CLICK_SOUND);
+    }
+    
     private void initializeWindow() {
         setTitle("No Brakes Life - Main Menu");
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
@@ -55,6 +72,16 @@ public class MainMenu extends JFrame {
             addMouseListener(this);
             addMouseMotionListener(this);
             loadMenuElements(this);
+            repaintWhenLoaded();
+        }
+        
+        private void repaintWhenLoaded() {
+            ArrayList<CompletableFuture<Void>> loads = new ArrayList<>();
+            for (MenuElement element : uiElements) {
+                loads.add(element.getImageLoad());
+            }
+            CompletableFuture.allOf(loads.toArray(CompletableFuture<?>[]::new))
+                .thenRun(() -> SwingUtilities.invokeLater(this::repaint));
         }
         
         public void addElement(MenuElement element) {
@@ -62,15 +89,13 @@ public class MainMenu extends JFrame {
         }
         
         private void loadBackgroundImage() {
-            try {
-                String fullPath = System.getProperty("user.dir") + java.io.File.separator + MENU_BACKGROUND;
-                File imageFile = new File(fullPath);
-                if (imageFile.exists()) {
-                    backgroundImage = ImageIO.read(imageFile);
+            AssetManager.loadImageAsync(MENU_BACKGROUND).thenAccept(image -> SwingUtilities.invokeLater(() -> {
+                if (image == null) {
+                    System.err.println("ไม่สามารถโหลดภาพพื้นหลังได้: " + MENU_BACKGROUND);
                 }
-            } catch (Exception ex) {
-                System.err.println("ไม่สามารถโหลดภาพพื้นหลังได้: " + ex.getMessage());
-            }
+                backgroundImage = image;
+                repaint();
+            }));
         }
     
         @Override
@@ -138,7 +163,7 @@ public class MainMenu extends JFrame {
         public static void loadMenuElements(MenuPanel panel) {
             MenuElement buttonPlay = new MenuElement(
                 MenuElement.ElementType.IMAGE, 
-                "assets/ui/button/Button-Big-Blue.png", 
+                BUTTON_PLAY_IMAGE, 
                 561.0, 267.0, 798.0, 196.0,
                 "start_game",
                 () -> panel.startGame()
@@ -150,7 +175,7 @@ public class MainMenu extends JFrame {
             
             MenuElement button2 = new MenuElement(
                 MenuElement.ElementType.IMAGE, 
-                "assets" + File.separator + "ui" + File.separator + "button" + File.separator + "Button-Big-Gray.png", 
+                BUTTON_GRAY_IMAGE, 
                 561.0, 785.0, 798.0, 196.0,
                 "button_3",
                 () -> panel.handleButton("button_3")
@@ -159,7 +184,7 @@ public class MainMenu extends JFrame {
             
             MenuElement button1 = new MenuElement(
                 MenuElement.ElementType.IMAGE, 
-                "assets" + File.separator + "ui" + File.separator + "button" + File.separator + "Button-Big-Gray.png", 
+                BUTTON_GRAY_IMAGE, 
                 561.0, 518.0, 798.0, 196.0,
                 "button_2",
                 () -> panel.handleButton("button_2")
@@ -228,27 +253,11 @@ public class MainMenu extends JFrame {
         }
         
         private void playHoverSound() {
-            playSound("assets" + File.separator + "sfx" + File.separator + "Button Select.wav");
+            SoundManager.play(HOVER_SOUND);
         }
         
         private void playClickSound() {
-            playSound("assets" + File.separator + "sfx" + File.separator + "Button Click 1.wav");
-        }
-        
-        private void playSound(String soundPath) {
-            try {
-                File soundFile = new File(soundPath);
-                if (!soundFile.exists()) {
-                    soundFile = new File(System.getProperty("user.dir") + File.separator + soundPath);
-                }
-                if (soundFile.exists()) {
-                    javax.sound.sampled.AudioInputStream audioStream = javax.sound.sampled.AudioSystem.getAudioInputStream(soundFile);
-                    javax.sound.sampled.Clip clip = javax.sound.sampled.AudioSystem.getClip();
-                    clip.open(audioStream);
-                    clip.start();
-                }
-            } catch (Exception ex) {
-            }
+            SoundManager.play(CLICK_SOUND);
         }
         
         public void startGame() {
@@ -6,7 +6,6 @@ import java.awt.event.*;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.util.ArrayList;
-import javax.imageio.ImageIO;
 
 public class MainMenuEditor extends JFrame {
     private MenuEditorPanel editorPanel;
@@ -65,15 +64,7 @@ public class MainMenuEditor extends JFrame {
         }
         
         private void loadBackgroundImage() {
-            try {
-                String fullPath = System.getProperty("user.dir") + File.separator + 
-                    "assets" + File.separator + "background" + File.separator + "Score-Screen-Background.png";
-                File imageFile = new File(fullPath);
-                if (imageFile.exists()) {
-                    backgroundImage = ImageIO.read(imageFile);
-                }
-            } catch (Exception ex) {
-            }
+            backgroundImage = AssetManager.getImage("assets" + File.separator + "background" + File.separator + "Score-Screen-Background.png");
         }
         
         private void setupToolbar() {
@@ -2,8 +2,7 @@ package game;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.io.File;
-import javax.imageio.ImageIO;
+import java.util.concurrent.CompletableFuture;
 
 public class MenuElement {
     public enum ElementType {
@@ -16,9 +15,13 @@ public class MenuElement {
         void execute();
     }
     
+    public static final String HOVER_IMAGE = "assets/ui/button/Button-Big-Pink.png";
+    
     private ElementType type;
     private String imagePath;
-    private BufferedImage image;
+    private volatile BufferedImage image;
+    private volatile SpriteRegion sprite;
+    private CompletableFuture<Void> imageLoad;
     private String text;
     private String buttonId;
     private ButtonAction buttonAction;
@@ -30,7 +33,7 @@ public class MenuElement {
     private Font textFont;
     private boolean selected;
     private boolean hovered;
-    private BufferedImage hoverImage;
+    private volatile SpriteRegion hoverSprite;
     
     public MenuElement(ElementType type, String imagePath, double x, double y, double width, double height) {
         this.type = type;
@@ -80,62 +83,58 @@ public class MenuElement {
     }
     
     private void loadImage() {
-        if (imagePath == null || imagePath.isEmpty()) return;
-        try {
-            String fullPath = System.getProperty("user.dir") + File.separator + imagePath;
-            File file = new File(fullPath);
-            if (file.exists()) {
-                image = ImageIO.read(file);
-                if (width == 0 || height == 0) {
-                    if (image != null) {
-                        this.width = image.getWidth();
-                        this.height = image.getHeight();
-                    }
-                }
+        if (imagePath == null || imagePath.isEmpty()) {
+            imageLoad = CompletableFuture.completedFuture(null);
+            return;
+        }
+        if (width == 0 || height == 0) {
+            image = AssetManager.getImage(imagePath);
+            sprite = TextureAtlas.getRegion(imagePath);
+            if (image != null) {
+                this.width = image.getWidth();
+                this.height = image.getHeight();
             }
-        } catch (Exception ex) {
+            imageLoad = CompletableFuture.completedFuture(null);
+        } else {
+            imageLoad = AssetManager.loadImageAsync(imagePath).thenAccept(img -> {
+                image = img;
+                sprite = TextureAtlas.getRegion(imagePath);
+            });
         }
     }
     
     private void loadHoverImage() {
-        try {
-            String hoverPath = System.getProperty("user.dir") + File.separator + "assets/ui/button/Button-Big-Pink.png";
-            File file = new File(hoverPath);
-            if (file.exists()) {
-                hoverImage = ImageIO.read(file);
-            }
-        } catch (Exception ex) {
-        }
+        CompletableFuture<Void> hoverLoad = AssetManager.loadImageAsync(HOVER_IMAGE).thenAccept(img -> hoverSprite = TextureAtlas.getRegion(HOVER_IMAGE));
+        imageLoad = imageLoad.thenCombine(hoverLoad, (a, b) -> null);
+    }
+    
+    public CompletableFuture<Void> getImageLoad() {
+        return imageLoad != null ? imageLoad : CompletableFuture.completedFuture(null);
     }
     
     private void calculateDimensions() {
-        BufferedImage tempImg = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
-        Graphics2D g = tempImg.createGraphics();
-        FontMetrics fm = g.getFontMetrics(textFont);
-        this.width = fm.stringWidth(text);
-        this.height = fm.getHeight();
-        g.dispose();
+        this.width = TextMetrics.stringWidth(textFont, text);
+        this.height = TextMetrics.getHeight(textFont, text);
     }
     
     public void render(Graphics2D g2d) {
-        if (type == ElementType.IMAGE && image != null) {
-            BufferedImage imgToDraw = hovered && hoverImage != null ? hoverImage : image;
-            g2d.drawImage(imgToDraw, (int)x, (int)y, (int)width, (int)height, null);
+        if (type == ElementType.IMAGE && sprite != null) {
+            SpriteRegion imgToDraw = hovered && hoverSprite != null ? hoverSprite : sprite;
+            imgToDraw.draw(g2d, (int)x, (int)y, (int)width, (int)height);
         } else if (type == ElementType.TEXT) {
             g2d.setColor(textColor);
             g2d.setFont(textFont);
             g2d.drawString(text, (int)x, (int)y);
         } else if (type == ElementType.BUTTON) {
-            BufferedImage imgToDraw = hovered && hoverImage != null ? hoverImage : image;
+            SpriteRegion imgToDraw = hovered && hoverSprite != null ? hoverSprite : sprite;
             if (imgToDraw != null) {
-                g2d.drawImage(imgToDraw, (int)x, (int)y, (int)width, (int)height, null);
+                imgToDraw.draw(g2d, (int)x, (int)y, (int)width, (int)height);
             }
             if (text != null && !text.isEmpty()) {
                 g2d.setColor(textColor);
                 g2d.setFont(textFont);
-                FontMetrics fm = g2d.getFontMetrics();
-                int textX = (int)(x + (width - fm.stringWidth(text)) / 2);
-                int textY = (int)(y + (height + fm.getAscent()) / 2);
+                int textX = (int)(x + (width - TextMetrics.stringWidth(textFont, text)) / 2);
+                int textY = (int)(y + (height + TextMetrics.getAscent(textFont, text)) / 2);
                 g2d.drawString(text, textX, textY);
             }
         }
@@ -0,0 +1,290 @@
+package game;
+
+import editor.Waypoint;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+
+public class NavGraph {
+    static final int BUILD_VERSION = 1;
+    static final double JUNCTION_RADIUS = 35.0;
+    
+    private final double[] nodeX;
+    private final double[] nodeY;
+    private final int[] edgeStart;
+    private final int[] edgeTarget;
+    private final double[] edgeCost;
+    
+    private final double[] gScore;
+    private final double[] fScore;
+    private final int[] cameFrom;
+    private final int[] visited;
+    private final int[] heap;
+    private final int[] heapIndex;
+    private int heapSize;
+    private int stamp;
+    
+    public NavGraph(ArrayList<ArrayList<Waypoint>> paths) {
+        int count = 0;
+        for (ArrayList<Waypoint> path : paths) {
+            count += path.size();
+        }
+        
+        nodeX = new double[count];
+        nodeY = new double[count];
+        int[] pathOf = new int[count];
+        int[] pathFirst = new int[paths.size()];
+        int[] pathLast = new int[paths.size()];
+        
+        int node = 0;
+        for (int p = 0; p < paths.size(); p++) {
+            pathFirst[p] = node;
+            for (Waypoint wp : paths.get(p)) {
+                nodeX[node] = wp.getX();
+                nodeY[node] = wp.getY();
+                pathOf[node] = p;
+                node++;
+            }
+            pathLast[p] = node - 1;
+        }
+        
+        ArrayList<int[]> edges = new ArrayList<>();
+        HashSet<Long> seen = new HashSet<>();
+        for (int p = 0; p < paths.size(); p++) {
+            for (int i = pathFirst[p]; i < pathLast[p]; i++) {
+                addEdge(edges, seen, i, i + 1);
+            }
+        }
+        
+        for (int i = 0; i < count; i++) {
+            boolean endpoint = i == pathFirst[pathOf[i]] || i == pathLast[pathOf[i]];
+            for (int p = 0; p < paths.size(); p++) {
+                if (p == pathOf[i] && !endpoint) {
+                    continue;
+                }
+                int nearest = -1;
+                double nearestDistSq = JUNCTION_RADIUS * JUNCTION_RADIUS;
+                for (int j = pathFirst[p]; j <= pathLast[p]; j++) {
+                    if (j == i || (p == pathOf[i] && Math.abs(j - i) <= 1)) {
+                        continue;
+                    }
+                    double dx = nodeX[j] - nodeX[i];
+                    double dy = nodeY[j] - nodeY[i];
+                    double distSq = dx * dx + dy * dy;
+                    if (distSq <= nearestDistSq) {
+                        nearestDistSq = distSq;
+                        nearest = j;
+                    }
+                }
+                if (nearest != -1) {
+                    addEdge(edges, seen, i, nearest);
+                }
+            }
+        }
+        
+        edgeStart = new int[count + 1];
+        for (int[] edge : edges) {
+            edgeStart[edge[0] + 1]++;
+            edgeStart[edge[1] + 1]++;
+        }
+        for (int i = 0; i < count; i++) {
+            edgeStart[i + 1] += edgeStart[i];
+        }
+        
+        edgeTarget = new int[edges.size() * 2];
+        edgeCost = new double[edges.size() * 2];
+        int[] fill = new int[count];
+        for (int[] edge : edges) {
+            int a = edge[0];
+            int b = edge[1];
+            double cost = distance(a, b);
+            int slotA = edgeStart[a] + fill[a]++;
+            edgeTarget[slotA] = b;
+            edgeCost[slotA] = cost;
+            int slotB = edgeStart[b] + fill[b]++;
+            edgeTarget[slotB] = a;
+            edgeCost[slotB] = cost;
+        }
+        
+        gScore = new double[count];
+        fScore = new double[count];
+        cameFrom = new int[count];
+        visited = new int[count];
+        heap = new int[count];
+        heapIndex = new int[count];
+        stamp = 0;
+    }
+    
+    private void addEdge(ArrayList<int[]> edges, HashSet<Long> seen, int a, int b) {
+        int lo = Math.min(a, b);
+        int hi = Math.max(a, b);
+        if (seen.add(((long) lo << 32) | hi)) {
+            edges.add(new int[] {lo, hi});
+        }
+    }
+    
+    private double distance(int a, int b) {
+        double dx = nodeX[a] - nodeX[b];
+        double dy = nodeY[a] - nodeY[b];
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+    
+    private double heuristic(int node, int goal) {
+        return distance(node, goal);
+    }
+    
+    public int getNodeCount() {
+        return nodeX.length;
+    }
+    
+    public double getNodeX(int node) {
+        return nodeX[node];
+    }
+    
+    public double getNodeY(int node) {
+        return nodeY[node];
+    }
+    
+    public int getEdgeCount() {
+        return edgeTarget.length / 2;
+    }
+    
+    public int findNearestNode(double x, double y) {
+        int nearest = -1;
+        double nearestDistSq = Double.MAX_VALUE;
+        for (int i = 0; i < nodeX.length; i++) {
+            double dx = nodeX[i] - x;
+            double dy = nodeY[i] - y;
+            double distSq = dx * dx + dy * dy;
+            if (distSq < nearestDistSq) {
+                nearestDistSq = distSq;
+                nearest = i;
+            }
+        }
+        return nearest;
+    }
+    
+    public int[] findPath(int start, int goal) {
+        if (start < 0 || goal < 0) {
+            return null;
+        }
+        if (start == goal) {
+            return new int[] {start};
+        }
+        
+        stamp++;
+        heapSize = 0;
+        gScore[start] = 0;
+        fScore[start] = heuristic(start, goal);
+        cameFrom[start] = -1;
+        visited[start] = stamp;
+        push(start);
+        
+        while (heapSize > 0) {
+            int current = pop();
+            if (current == goal) {
+                return reconstruct(goal);
+            }
+            
+            for (int e = edgeStart[current]; e < edgeStart[current + 1]; e++) {
+                int next = edgeTarget[e];
+                double tentative = gScore[current] + edgeCost[e];
+                if (visited[next] != stamp) {
+                    visited[next] = stamp;
+                    gScore[next] = tentative;
+                    fScore[next] = tentative + heuristic(next, goal);
+                    cameFrom[next] = current;
+                    push(next);
+                } else if (tentative < gScore[next]) {
+                    gScore[next] = tentative;
+                    fScore[next] = tentative + heuristic(next, goal);
+                    cameFrom[next] = current;
+                    if (heapIndex[next] >= 0) {
+                        siftUp(heapIndex[next]);
+                    } else {
+                        push(next);
+                    }
+                }
+            }
+        }
+        return null;
+    }
+    
+    public ArrayList<Waypoint> findRoute(double startX, double startY, double targetX, double targetY) {
+        ArrayList<Waypoint> route = new ArrayList<>();
+        int[] nodes = findPath(findNearestNode(startX, startY), findNearestNode(targetX, targetY));
+        if (nodes != null) {
+            for (int node : nodes) {
+                route.add(new Waypoint(nodeX[node], nodeY[node]));
+            }
+        }
+        route.add(new Waypoint(targetX, targetY));
+        return route;
+    }
+    
+    private int[] reconstruct(int goal) {
+        int length = 0;
+        for (int node = goal; node != -1; node = cameFrom[node]) {
+            length++;
+        }
+        int[] path = new int[length];
+        for (int node = goal; node != -1; node = cameFrom[node]) {
+            path[--length] = node;
+        }
+        return path;
+    }
+    
+    private void push(int node) {
+        heap[heapSize] = node;
+        heapIndex[node] = heapSize;
+        siftUp(heapSize++);
+    }
+    
+    private int pop() {
+        int top = heap[0];
+        heapIndex[top] = -1;
+        heapSize--;
+        if (heapSize > 0) {
+            heap[0] = heap[heapSize];
+            heapIndex[heap[0]] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+    
+    private void siftUp(int index) {
+        int node = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >> 1;
+            if (fScore[heap[parent]] <= fScore[node]) {
+                break;
+            }
+            heap[index] = heap[parent];
+            heapIndex[heap[index]] = index;
+            index = parent;
+        }
+        heap[index] = node;
+        heapIndex[node] = index;
+    }
+    
+    private void siftDown(int index) {
+        int node = heap[index];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && fScore[heap[child + 1]] < fScore[heap[child]]) {
+                child++;
+            }
+            if (fScore[node] <= fScore[heap[child]]) {
+                break;
+            }
+            heap[index] = heap[child];
+            heapIndex[heap[index]] = index;
+            index = child;
+        }
+        heap[index] = node;
+        heapIndex[node] = index;
+    }
+}
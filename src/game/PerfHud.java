@@ -0,0 +1,264 @@
+package game;
+
+import java.awt.*;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class PerfHud {
+    public static final int PHASE_BACKGROUND = 0;
+    public static final int PHASE_EDITOR = 1;
+    public static final int PHASE_SCENE = 2;
+    public static final int PHASE_UI = 3;
+    
+    private static final int PHASE_COUNT = 4;
+    private static final String[] PHASE_LABELS = {"bg ", "editor ", "scene ", "ui "};
+    
+    private static final int BUCKET_MICROS = 250;
+    private static final int BUCKET_COUNT = 200;
+    private static final int WINDOW_FRAMES = 240;
+    private static final long REFRESH_NANOS = 250_000_000L;
+    private static final double PHASE_SMOOTHING = 0.1;
+    
+    private static final Font FONT = new Font(Font.MONOSPACED, Font.BOLD, 14);
+    private static final Color PANEL_COLOR = new Color(0, 0, 0, 170);
+    private static final Color TEXT_COLOR = new Color(230, 255, 230);
+    private static final int LINE_COUNT = 5;
+    private static final int LINE_HEIGHT = 18;
+    private static final int LINE_CAPACITY = 64;
+    private static final int PANEL_X = 10;
+    private static final int PANEL_Y = 10;
+    private static final int PANEL_WIDTH = 470;
+    private static final int PANEL_HEIGHT = LINE_COUNT * LINE_HEIGHT + 12;
+    
+    private final int[] bucketCounts;
+    private final int[] window;
+    private final int[] overflow;
+    private int windowSize;
+    private int windowNext;
+    private long windowMicros;
+    
+    private final double[] phaseMicros;
+    private final AtomicLong repaintRequests;
+    private long framesPainted;
+    private long lastRepaintRequests;
+    private long lastFramesPainted;
+    private long lastRefresh;
+    private int repaintRate;
+    private int paintRate;
+    
+    private final char[][] lines;
+    private final int[] lineLengths;
+    private final Rectangle bounds;
+    private int renderedMouseX;
+    private int renderedMouseY;
+    private volatile boolean visible;
+    private boolean renderedVisible;
+    
+    public PerfHud() {
+        bucketCounts = new int[BUCKET_COUNT];
+        window = new int[WINDOW_FRAMES];
+        overflow = new int[WINDOW_FRAMES];
+        phaseMicros = new double[PHASE_COUNT];
+        repaintRequests = new AtomicLong();
+        lines = new char[LINE_COUNT][LINE_CAPACITY];
+        lineLengths = new int[LINE_COUNT];
+        bounds = new Rectangle(PANEL_X, PANEL_Y, PANEL_WIDTH, PANEL_HEIGHT);
+        renderedMouseX = -1;
+        renderedMouseY = -1;
+    }
+    
+    public void toggle() {
+        visible = !visible;
+    }
+    
+    public boolean isVisible() {
+        return visible;
+    }
+    
+    public void repaintRequested() {
+        repaintRequests.incrementAndGet();
+    }
+    
+    public void framePresented(long frameStart, long now) {
+        framesPainted++;
+        recordFrame(now - frameStart);
+    }
+    
+    public void phaseFinished(int phase, long nanos) {
+        phaseMicros[phase] += (nanos / 1000.0 - phaseMicros[phase]) * PHASE_SMOOTHING;
+    }
+    
+    private void recordFrame(long nanos) {
+        int micros = (int) Math.min(Integer.MAX_VALUE, nanos / 1000);
+        if (windowSize == WINDOW_FRAMES) {
+            int evicted = window[windowNext];
+            bucketCounts[bucketOf(evicted)]--;
+            windowMicros -= evicted;
+        } else {
+            windowSize++;
+        }
+        window[windowNext] = micros;
+        windowNext = (windowNext + 1) % WINDOW_FRAMES;
+        bucketCounts[bucketOf(micros)]++;
+        windowMicros += micros;
+    }
+    
+    private int bucketOf(int micros) {
+        return Math.min(BUCKET_COUNT - 1, micros / BUCKET_MICROS);
+    }
+    
+    private double percentileMillis(double percentile) {
+        if (windowSize == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile * windowSize);
+        int seen = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT - 1; bucket++) {
+            seen += bucketCounts[bucket];
+            if (seen >= rank) {
+                return (bucket + 1) * BUCKET_MICROS / 1000.0;
+            }
+        }
+        return overflowMicros(rank - seen) / 1000.0;
+    }
+    
+    private int overflowMicros(int rank) {
+        int limit = (BUCKET_COUNT - 1) * BUCKET_MICROS;
+        int count = 0;
+        for (int i = 0; i < windowSize; i++) {
+            if (window[i] >= limit) {
+                overflow[count++] = window[i];
+            }
+        }
+        Arrays.sort(overflow, 0, count);
+        return overflow[Math.max(0, Math.min(count, rank) - 1)];
+    }
+    
+    public void collectDamage(DamageTracker damage, int mouseX, int mouseY, long now) {
+        boolean show = visible;
+        if (show != renderedVisible) {
+            damage.add(bounds);
+            renderedVisible = show;
+            if (show) {
+                refresh(mouseX, mouseY, now);
+            }
+            return;
+        }
+        if (!show) {
+            return;
+        }
+        if (now - lastRefresh >= REFRESH_NANOS || mouseX != renderedMouseX || mouseY != renderedMouseY) {
+            refresh(mouseX, mouseY, now);
+            damage.add(bounds);
+        }
+    }
+    
+    private void refresh(int mouseX, int mouseY, long now) {
+        long elapsed = now - lastRefresh;
+        if (elapsed >= REFRESH_NANOS) {
+            long requests = repaintRequests.get();
+            repaintRate = (int) Math.round((requests - lastRepaintRequests) * 1e9 / elapsed);
+            paintRate = (int) Math.round((framesPainted - lastFramesPainted) * 1e9 / elapsed);
+            lastRepaintRequests = requests;
+            lastFramesPainted = framesPainted;
+            lastRefresh = now;
+            refreshStats();
+        }
+        
+        lineLengths[4] = 0;
+        append(4, "mouse ");
+        append(4, mouseX);
+        append(4, ", ");
+        append(4, mouseY);
+        renderedMouseX = mouseX;
+        renderedMouseY = mouseY;
+    }
+    
+    private void refreshStats() {
+        lineLengths[0] = 0;
+        append(0, "FPS ");
+        append(0, paintRate);
+        append(0, "  frame ");
+        append(0, windowSize == 0 ? 0 : windowMicros / 1000.0 / windowSize, 2);
+        append(0, " p50 ");
+        append(0, percentileMillis(0.50), 2);
+        append(0, " p95 ");
+        append(0, percentileMillis(0.95), 2);
+        append(0, " p99 ");
+        append(0, percentileMillis(0.99), 2);
+        append(0, " ms");
+        
+        lineLengths[1] = 0;
+        for (int phase = 0; phase < PHASE_COUNT; phase++) {
+            append(1, PHASE_LABELS[phase]);
+            append(1, phaseMicros[phase] / 1000.0, 2);
+            append(1, phase < PHASE_COUNT - 1 ? "  " : " ms");
+        }
+        
+        lineLengths[2] = 0;
+        append(2, "repaints ");
+        append(2, repaintRate);
+        append(2, "/s  images ");
+        append(2, AssetManager.getCachedImageCount());
+        append(2, " (");
+        append(2, AssetManager.getUnacceleratedImageCount());
+        append(2, " unaccel)");
+        
+        Runtime runtime = Runtime.getRuntime();
+        lineLengths[3] = 0;
+        append(3, "heap ");
+        append(3, (runtime.totalMemory() - runtime.freeMemory()) >> 20);
+        append(3, " / ");
+        append(3, runtime.totalMemory() >> 20);
+        append(3, " MB (max ");
+        append(3, runtime.maxMemory() >> 20);
+        append(3, " MB)");
+    }
+    
+    private void append(int line, String text) {
+        for (int i = 0; i < text.length() && lineLengths[line] < LINE_CAPACITY; i++) {
+            lines[line][lineLengths[line]++] = text.charAt(i);
+        }
+    }
+    
+    private void append(int line, long value) {
+        if (value < 0) {
+            append(line, "-");
+            value = -value;
+        }
+        long divisor = 1;
+        while (value / divisor >= 10) {
+            divisor *= 10;
+        }
+        while (divisor > 0 && lineLengths[line] < LINE_CAPACITY) {
+            lines[line][lineLengths[line]++] = (char) ('0' + (value / divisor) % 10);
+            divisor /= 10;
+        }
+    }
+    
+    private void append(int line, double value, int decimals) {
+        long scale = decimals == 1 ? 10 : 100;
+        long scaled = Math.round(value * scale);
+        append(line, scaled / scale);
+        append(line, ".");
+        long fraction = scaled % scale;
+        if (decimals == 2 && fraction < 10) {
+            append(line, "0");
+        }
+        append(line, fraction);
+    }
+    
+    public void render(Graphics2D g2d) {
+        if (!visible) {
+            return;
+        }
+        
+        g2d.setColor(PANEL_COLOR);
+        g2d.fillRect(bounds.x, bounds.y, bounds.width, bounds.height);
+        g2d.setColor(TEXT_COLOR);
+        g2d.setFont(FONT);
+        for (int i = 0; i < LINE_COUNT; i++) {
+            g2d.drawChars(lines[i], 0, lineLengths[i], bounds.x + 8, bounds.y + 6 + (i + 1) * LINE_HEIGHT - 4);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package game;
+
+import editor.Waypoint;
+
+import java.util.ArrayList;
+
+public class PlayerState {
+    private double x;
+    private double y;
+    private double prevX;
+    private double prevY;
+    private double[] pathX;
+    private double[] pathY;
+    private double[] pathDistance;
+    private int pathSegment;
+    private double distanceTravelled;
+    private double speed;
+    private boolean isMoving;
+    private String currentDirection;
+    private double blinkTimer;
+    private boolean isBlinking;
+    private double blinkInterval;
+    
+    public PlayerState(double x, double y) {
+        this.x = x;
+        this.y = y;
+        this.prevX = x;
+        this.prevY = y;
+        this.pathX = new double[0];
+        this.pathY = new double[0];
+        this.pathDistance = new double[0];
+        this.pathSegment = 0;
+        this.distanceTravelled = 0;
+        this.speed = 220.0;
+        this.isMoving = false;
+        this.currentDirection = "FRONT";
+        this.blinkTimer = 0;
+        this.isBlinking = false;
+        this.blinkInterval = 0.3;
+    }
+    
+    public void update(double dt) {
+        prevX = x;
+        prevY = y;
+        
+        if (isMoving) {
+            int last = pathDistance.length - 1;
+            distanceTravelled = Math.min(distanceTravelled + speed * dt, pathDistance[last]);
+            
+            while (pathSegment < last - 1 && pathDistance[pathSegment + 1] <= distanceTravelled) {
+                pathSegment++;
+            }
+            
+            double segmentLength = pathDistance[pathSegment + 1] - pathDistance[pathSegment];
+            double t = segmentLength > 0 ? (distanceTravelled - pathDistance[pathSegment]) / segmentLength : 1.0;
+            x = pathX[pathSegment] + (pathX[pathSegment + 1] - pathX[pathSegment]) * t;
+            y = pathY[pathSegment] + (pathY[pathSegment + 1] - pathY[pathSegment]) * t;
+            
+            if (distanceTravelled >= pathDistance[last]) {
+                isMoving = false;
+            }
+        } else {
+            blinkTimer += dt;
+            if (blinkTimer >= blinkInterval) {
+                isBlinking = !isBlinking;
+                blinkTimer -= blinkInterval;
+            }
+        }
+    }
+    
+    public void setDestination(double targetX, double targetY, NavGraph navGraph) {
+        followRoute(navGraph.findRoute(x, y, targetX, targetY));
+    }
+    
+    public void followRoute(ArrayList<Waypoint> route) {
+        int count = route == null ? 0 : route.size();
+        pathX = new double[count + 1];
+        pathY = new double[count + 1];
+        pathDistance = new double[count + 1];
+        pathX[0] = x;
+        pathY[0] = y;
+        for (int i = 0; i < count; i++) {
+            Waypoint wp = route.get(i);
+            pathX[i + 1] = wp.getX();
+            pathY[i + 1] = wp.getY();
+            double dx = pathX[i + 1] - pathX[i];
+            double dy = pathY[i + 1] - pathY[i];
+            pathDistance[i + 1] = pathDistance[i] + Math.sqrt(dx * dx + dy * dy);
+        }
+        
+        pathSegment = 0;
+        distanceTravelled = 0;
+        isMoving = count > 0;
+    }
+    
+    public void stop() {
+        pathX = new double[0];
+        pathY = new double[0];
+        pathDistance = new double[0];
+        pathSegment = 0;
+        distanceTravelled = 0;
+        isMoving = false;
+    }
+    
+    public boolean isMoving() {
+        return isMoving;
+    }
+    
+    public boolean isBlinking() {
+        return isBlinking;
+    }
+    
+    public double getDistanceTravelled() {
+        return distanceTravelled;
+    }
+    
+    public double getRouteLength() {
+        return pathDistance.length == 0 ? 0 : pathDistance[pathDistance.length - 1];
+    }
+    
+    public double getSpeed() {
+        return speed;
+    }
+    
+    public void setSpeed(double speed) {
+        this.speed = speed;
+    }
+    
+    public String getDirection() {
+        return currentDirection;
+    }
+    
+    public void setDirection(String direction) {
+        this.currentDirection = direction;
+    }
+    
+    public double getX() {
+        return x;
+    }
+    
+    public double getY() {
+        return y;
+    }
+    
+    public double getPrevX() {
+        return prevX;
+    }
+    
+    public double getPrevY() {
+        return prevY;
+    }
+    
+    public void setX(double x) {
+        this.x = x;
+        this.prevX = x;
+    }
+    
+    public void setY(double y) {
+        this.y = y;
+        this.prevY = y;
+    }
+}
@@ -0,0 +1,247 @@
+package game;
+
+import editor.Waypoint;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.ArrayList;
+
+public class RouteTable {
+    private static final int MAGIC = 0x4E424C52;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+    
+    private final long dataHash;
+    private final double[] entranceX;
+    private final double[] entranceY;
+    private final double[] waypointX;
+    private final double[] waypointY;
+    private final int[] routeStart;
+    private final int[] routeData;
+    
+    private RouteTable(long dataHash, double[] entranceX, double[] entranceY, double[] waypointX, double[] waypointY, int[] routeStart, int[] routeData) {
+        this.dataHash = dataHash;
+        this.entranceX = entranceX;
+        this.entranceY = entranceY;
+        this.waypointX = waypointX;
+        this.waypointY = waypointY;
+        this.routeStart = routeStart;
+        this.routeData = routeData;
+    }
+    
+    public static RouteTable load(ArrayList<ArrayList<Waypoint>> paths, NavGraph graph, GameConfig.HoverObject[] entrances, File cacheFile) {
+        GameEvents.RouteTableLoadEvent event = new GameEvents.RouteTableLoadEvent();
+        event.begin();
+        event.entrances = entrances.length;
+        long hash = hashData(paths, entrances);
+        
+        RouteTable table = read(cacheFile, hash, entrances.length);
+        event.cached = table != null;
+        if (table == null) {
+            table = compute(graph, entrances, hash);
+            table.write(cacheFile);
+        }
+        event.commit();
+        return table;
+    }
+    
+    public static RouteTable compute(NavGraph graph, GameConfig.HoverObject[] entrances, long hash) {
+        int count = entrances.length;
+        double[] entranceX = new double[count];
+        double[] entranceY = new double[count];
+        int[] entranceNode = new int[count];
+        for (int i = 0; i < count; i++) {
+            entranceX[i] = entrances[i].playerX;
+            entranceY[i] = entrances[i].playerY;
+            entranceNode[i] = graph.findNearestNode(entranceX[i], entranceY[i]);
+        }
+        
+        int nodeCount = graph.getNodeCount();
+        double[] waypointX = new double[nodeCount];
+        double[] waypointY = new double[nodeCount];
+        for (int i = 0; i < nodeCount; i++) {
+            waypointX[i] = graph.getNodeX(i);
+            waypointY[i] = graph.getNodeY(i);
+        }
+        
+        int[] routeStart = new int[count * count + 1];
+        ArrayList<int[]> routes = new ArrayList<>();
+        int total = 0;
+        for (int from = 0; from < count; from++) {
+            for (int to = 0; to < count; to++) {
+                int[] nodes = graph.findPath(entranceNode[from], entranceNode[to]);
+                if (nodes == null) {
+                    nodes = new int[0];
+                }
+                routes.add(nodes);
+                total += nodes.length;
+                routeStart[from * count + to + 1] = total;
+            }
+        }
+        
+        int[] routeData = new int[total];
+        for (int i = 0; i < routes.size(); i++) {
+            int[] nodes = routes.get(i);
+            System.arraycopy(nodes, 0, routeData, routeStart[i], nodes.length);
+        }
+        
+        return new RouteTable(hash, entranceX, entranceY, waypointX, waypointY, routeStart, routeData);
+    }
+    
+    public int getEntranceCount() {
+        return entranceX.length;
+    }
+    
+    public int findEntrance(double x, double y) {
+        for (int i = 0; i < entranceX.length; i++) {
+            if (Math.abs(entranceX[i] - x) < 1.0 && Math.abs(entranceY[i] - y) < 1.0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    public ArrayList<Waypoint> getRoute(int from, int to) {
+        int slot = from * entranceX.length + to;
+        ArrayList<Waypoint> route = new ArrayList<>(routeStart[slot + 1] - routeStart[slot] + 1);
+        for (int i = routeStart[slot]; i < routeStart[slot + 1]; i++) {
+            int node = routeData[i];
+            route.add(new Waypoint(waypointX[node], waypointY[node]));
+        }
+        route.add(new Waypoint(entranceX[to], entranceY[to]));
+        return route;
+    }
+    
+    private static long hashData(ArrayList<ArrayList<Waypoint>> paths, GameConfig.HoverObject[] entrances) {
+        long hash = 0xcbf29ce484222325L;
+        hash = mix(hash, FORMAT_VERSION);
+        hash = mix(hash, NavGraph.BUILD_VERSION);
+        hash = mix(hash, Double.doubleToLongBits(NavGraph.JUNCTION_RADIUS));
+        for (ArrayList<Waypoint> path : paths) {
+            hash = mix(hash, path.size());
+            for (Waypoint wp : path) {
+                hash = mix(hash, Double.doubleToLongBits(wp.getX()));
+                hash = mix(hash, Double.doubleToLongBits(wp.getY()));
+            }
+        }
+        hash = mix(hash, entrances.length);
+        for (GameConfig.HoverObject entrance : entrances) {
+            hash = mix(hash, Double.doubleToLongBits(entrance.playerX));
+            hash = mix(hash, Double.doubleToLongBits(entrance.playerY));
+        }
+        return hash;
+    }
+    
+    private static long mix(long hash, long value) {
+        for (int i = 0; i < 8; i++) {
+            hash ^= (value >>> (i * 8)) & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+    
+    private static RouteTable read(File file, long expectedHash, int expectedEntrances) {
+        if (file == null || !file.exists()) {
+            return null;
+        }
+        long remaining = file.length() - HEADER_SIZE;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION || in.readLong() != expectedHash) {
+                return null;
+            }
+            
+            int entranceCount = in.readInt();
+            remaining -= 4 + entranceCount * 16L;
+            if (entranceCount != expectedEntrances || remaining < 0) {
+                return null;
+            }
+            double[] entranceX = new double[entranceCount];
+            double[] entranceY = new double[entranceCount];
+            for (int i = 0; i < entranceCount; i++) {
+                entranceX[i] = in.readDouble();
+                entranceY[i] = in.readDouble();
+            }
+            
+            int waypointCount = in.readInt();
+            remaining -= 4 + waypointCount * 16L;
+            if (waypointCount < 0 || remaining < 0) {
+                return null;
+            }
+            double[] waypointX = new double[waypointCount];
+            double[] waypointY = new double[waypointCount];
+            for (int i = 0; i < waypointCount; i++) {
+                waypointX[i] = in.readDouble();
+                waypointY[i] = in.readDouble();
+            }
+            
+            remaining -= (entranceCount * entranceCount + 1) * 4L;
+            if (remaining < 0) {
+                return null;
+            }
+            int[] routeStart = new int[entranceCount * entranceCount + 1];
+            for (int i = 0; i < routeStart.length; i++) {
+                routeStart[i] = in.readInt();
+                if (routeStart[i] < (i == 0 ? 0 : routeStart[i - 1])) {
+                    return null;
+                }
+            }
+            if (routeStart[0] != 0 || routeStart[routeStart.length - 1] > remaining / 4) {
+                return null;
+            }
+            int[] routeData = new int[routeStart[routeStart.length - 1]];
+            for (int i = 0; i < routeData.length; i++) {
+                routeData[i] = in.readInt();
+                if (routeData[i] < 0 || routeData[i] >= waypointCount) {
+                    return null;
+                }
+            }
+            
+            return new RouteTable(expectedHash, entranceX, entranceY, waypointX, waypointY, routeStart, routeData);
+        } catch (Exception ex) {
+            return null;
+        }
+    }
+    
+    private void write(File file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            File parent = file.getAbsoluteFile().getParentFile();
+            if (parent != null) {
+                parent.mkdirs();
+            }
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeLong(dataHash);
+                
+                out.writeInt(entranceX.length);
+                for (int i = 0; i < entranceX.length; i++) {
+                    out.writeDouble(entranceX[i]);
+                    out.writeDouble(entranceY[i]);
+                }
+                
+                out.writeInt(waypointX.length);
+                for (int i = 0; i < waypointX.length; i++) {
+                    out.writeDouble(waypointX[i]);
+                    out.writeDouble(waypointY[i]);
+                }
+                
+                for (int start : routeStart) {
+                    out.writeInt(start);
+                }
+                for (int node : routeData) {
+                    out.writeInt(node);
+                }
+            }
+        } catch (Exception ex) {
+            System.err.println("Could not write route cache: " + ex.getMessage());
+        }
+    }
+}
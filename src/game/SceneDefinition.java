@@ -0,0 +1,122 @@
+package game;
+
+import editor.Waypoint;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+public class SceneDefinition {
+    private final ArrayList<String> ids;
+    private final ArrayList<GameConfig.HoverObject> objects;
+    private final ArrayList<ArrayList<Waypoint>> paths;
+    
+    private SceneDefinition(ArrayList<String> ids, ArrayList<GameConfig.HoverObject> objects, ArrayList<ArrayList<Waypoint>> paths) {
+        this.ids = ids;
+        this.objects = objects;
+        this.paths = paths;
+    }
+    
+    public static SceneDefinition fromConfig() {
+        ArrayList<String> ids = new ArrayList<>();
+        ArrayList<GameConfig.HoverObject> objects = new ArrayList<>();
+        for (GameConfig.HoverObject config : GameConfig.HOVER_OBJECTS) {
+            String name = new File(config.imagePath).getName();
+            int dot = name.lastIndexOf('.');
+            ids.add(dot > 0 ? name.substring(0, dot) : name);
+            objects.add(config);
+        }
+        return new SceneDefinition(ids, objects, GameConfig.getWaypointPaths());
+    }
+    
+    public static SceneDefinition load(File file) {
+        if (file.exists()) {
+            try {
+                return read(file.toPath());
+            } catch (IOException ex) {
+                System.err.println("Could not read " + file + ": " + ex.getMessage());
+            }
+        }
+        return fromConfig();
+    }
+    
+    public static SceneDefinition read(Path file) throws IOException {
+        ArrayList<String> ids = new ArrayList<>();
+        ArrayList<GameConfig.HoverObject> objects = new ArrayList<>();
+        ArrayList<ArrayList<Waypoint>> paths = new ArrayList<>();
+        HashSet<String> seen = new HashSet<>();
+        
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        ArrayList<Waypoint> currentPath = null;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            
+            String[] tokens = line.split("\\s+", 12);
+            try {
+                if (tokens[0].equals("object")) {
+                    if (tokens.length < 12) {
+                        throw new IOException("expected 11 fields after 'object'");
+                    }
+                    if (!seen.add(tokens[1])) {
+                        throw new IOException("duplicate object id '" + tokens[1] + "'");
+                    }
+                    ids.add(tokens[1]);
+                    objects.add(new GameConfig.HoverObject(
+                        tokens[2],
+                        tokens[11],
+                        Double.parseDouble(tokens[3]),
+                        Double.parseDouble(tokens[4]),
+                        Double.parseDouble(tokens[5]),
+                        Double.parseDouble(tokens[6]),
+                        Double.parseDouble(tokens[7]),
+                        Double.parseDouble(tokens[8]),
+                        Double.parseDouble(tokens[9]),
+                        tokens[10]
+                    ));
+                    currentPath = null;
+                } else if (tokens[0].equals("path")) {
+                    currentPath = new ArrayList<>();
+                    paths.add(currentPath);
+                } else if (currentPath != null && tokens.length == 2) {
+                    currentPath.add(new Waypoint(Double.parseDouble(tokens[0]), Double.parseDouble(tokens[1])));
+                } else {
+                    throw new IOException("unexpected '" + tokens[0] + "'");
+                }
+            } catch (NumberFormatException ex) {
+                throw new IOException(file.getFileName() + ":" + (i + 1) + ": bad number " + ex.getMessage());
+            } catch (IOException ex) {
+                throw new IOException(file.getFileName() + ":" + (i + 1) + ": " + ex.getMessage());
+            }
+        }
+        
+        return new SceneDefinition(ids, objects, paths);
+    }
+    
+    public int getObjectCount() {
+        return objects.size();
+    }
+    
+    public String getId(int index) {
+        return ids.get(index);
+    }
+    
+    public GameConfig.HoverObject getObject(int index) {
+        return objects.get(index);
+    }
+    
+    public GameConfig.HoverObject[] getEntrances() {
+        return objects.toArray(new GameConfig.HoverObject[0]);
+    }
+    
+    public ArrayList<ArrayList<Waypoint>> getPaths() {
+        return paths;
+    }
+}
@@ -0,0 +1,105 @@
+package game;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.function.Consumer;
+
+public class SceneWatcher implements Runnable {
+    private static final long SETTLE_MILLIS = 75;
+    
+    private final Path file;
+    private final Consumer<SceneDefinition> listener;
+    private WatchService watchService;
+    private Thread thread;
+    
+    public SceneWatcher(Path file, Consumer<SceneDefinition> listener) {
+        this.file = file.toAbsolutePath();
+        this.listener = listener;
+    }
+    
+    public void start() {
+        if (thread != null) {
+            return;
+        }
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            file.getParent().register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException ex) {
+            System.err.println("Scene hot reload disabled: " + ex.getMessage());
+            return;
+        }
+        
+        thread = new Thread(this, "scene-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+    
+    public void stop() {
+        if (thread == null) {
+            return;
+        }
+        try {
+            watchService.close();
+        } catch (IOException ex) {
+        }
+        thread.interrupt();
+        thread = null;
+    }
+    
+    @Override
+    public void run() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean changed = drain(key);
+                
+                while (true) {
+                    Thread.sleep(SETTLE_MILLIS);
+                    WatchKey more = watchService.poll();
+                    if (more == null) {
+                        break;
+                    }
+                    changed |= drain(more);
+                }
+                
+                if (changed) {
+                    reload();
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException ex) {
+        }
+    }
+    
+    private boolean drain(WatchKey key) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            Object context = event.context();
+            if (context instanceof Path && file.getFileName().equals(context)) {
+                changed = true;
+            }
+        }
+        key.reset();
+        return changed;
+    }
+    
+    private void reload() {
+        long start = System.nanoTime();
+        try {
+            SceneDefinition definition = SceneDefinition.read(file);
+            listener.accept(definition);
+            System.out.println("Reloaded " + file.getFileName() + " in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        } catch (IOException ex) {
+            System.err.println("Scene reload skipped: " + ex.getMessage());
+        } catch (RuntimeException ex) {
+            System.err.println("Scene reload failed: " + ex);
+        }
+    }
+}
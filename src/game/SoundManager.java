@@ -1,44 +1,198 @@
 package game;
 
 import javax.sound.sampled.*;
-import java.io.File;
+import java.io.ByteArrayInputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class SoundManager {
-    private Clip currentClip;
-    private boolean wasHovering;
+    private static final int MAX_VOICES_PER_SOUND = 4;
+    private static final int MAX_ACTIVE_VOICES = 12;
     
-    public SoundManager() {
-        wasHovering = false;
+    private static final ConcurrentHashMap<String, CompletableFuture<SoundData>> sounds = new ConcurrentHashMap<>();
+    private static final Map<String, VoicePool> pools = new HashMap<>();
+    private static final ExecutorService playback = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "sfx-playback");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    private static class SoundData {
+        final AudioFormat format;
+        final byte[] pcm;
+        
+        SoundData(AudioFormat format, byte[] pcm) {
+            this.format = format;
+            this.pcm = pcm;
+        }
     }
     
-    public void updateHoverState(boolean isHovering, String soundPath) {
-        if (isHovering && !wasHovering) {
-            stopAll();
-            playSound(soundPath);
+    private static class VoicePool {
+        final SoundData sound;
+        final Clip[] clips;
+        final long[] startedAt;
+        int size;
+        
+        VoicePool(SoundData sound) {
+            this.sound = sound;
+            this.clips = new Clip[MAX_VOICES_PER_SOUND];
+            this.startedAt = new long[MAX_VOICES_PER_SOUND];
+            this.size = 0;
         }
-        wasHovering = isHovering;
     }
     
-    private void playSound(String soundPath) {
-        try {
-            File soundFile = new File(soundPath);
-            if (!soundFile.exists()) {
-                soundFile = new File(System.getProperty("user.dir") + java.io.File.separator + soundPath);
+    public static CompletableFuture<Void> preload(String soundPath) {
+        return load(soundPath).thenAccept(sound -> {});
+    }
+    
+    public static void play(String soundPath) {
+        if (soundPath == null) {
+            return;
+        }
+        CompletableFuture<SoundData> sound = load(soundPath);
+        playback.execute(() -> {
+            SoundData data = sound.join();
+            if (data != null) {
+                playNow(AssetManager.normalizePath(soundPath), data);
+            }
+        });
+    }
+    
+    public static void stopAll() {
+        playback.execute(() -> {
+            for (VoicePool pool : pools.values()) {
+                for (int i = 0; i < pool.size; i++) {
+                    pool.clips[i].stop();
+                }
+            }
+        });
+    }
+    
+    private static CompletableFuture<SoundData> load(String soundPath) {
+        String key = AssetManager.normalizePath(soundPath);
+        return sounds.computeIfAbsent(key, k -> AssetManager.loadDataAsync(k).thenApply(SoundManager::decode));
+    }
+    
+    private static SoundData decode(byte[] fileData) {
+        if (fileData == null) {
+            return null;
+        }
+        try (AudioInputStream source = AudioSystem.getAudioInputStream(new ByteArrayInputStream(fileData))) {
+            AudioFormat format = source.getFormat();
+            AudioInputStream pcmStream = source;
+            if (format.getEncoding() != AudioFormat.Encoding.PCM_SIGNED && format.getEncoding() != AudioFormat.Encoding.PCM_UNSIGNED) {
+                format = new AudioFormat(AudioFormat.Encoding.PCM_SIGNED, format.getSampleRate(), 16,
+                    format.getChannels(), format.getChannels() * 2, format.getSampleRate(), false);
+                pcmStream = AudioSystem.getAudioInputStream(format, source);
+            }
+            byte[] pcm = pcmStream.readAllBytes();
+            return new SoundData(format, pcm);
+        } catch (Exception ex) {
+            return null;
+        }
+    }
+    
+    private static void playNow(String key, SoundData data) {
+        VoicePool pool = pools.computeIfAbsent(key, k -> new VoicePool(data));
+        long now = System.nanoTime();
+        
+        Clip clip = null;
+        int slot = -1;
+        for (int i = 0; i < pool.size; i++) {
+            if (!pool.clips[i].isActive()) {
+                clip = pool.clips[i];
+                slot = i;
+                break;
             }
-            if (soundFile.exists()) {
-                AudioInputStream audioStream = AudioSystem.getAudioInputStream(soundFile);
-                currentClip = AudioSystem.getClip();
-                currentClip.open(audioStream);
-                currentClip.start();
+        }
+        
+        if (clip == null && countActiveVoices() >= MAX_ACTIVE_VOICES) {
+            stealOldestVoice();
+        }
+        
+        if (clip == null && pool.size < pool.clips.length) {
+            clip = openClip(key, pool.sound);
+            if (clip != null) {
+                slot = pool.size;
+                pool.clips[pool.size++] = clip;
             }
+        }
+        
+        if (clip == null) {
+            slot = oldestSlot(pool);
+            if (slot == -1) {
+                return;
+            }
+            clip = pool.clips[slot];
+            clip.stop();
+        }
+        
+        clip.setFramePosition(0);
+        clip.start();
+        pool.startedAt[slot] = now;
+    }
+    
+    private static Clip openClip(String key, SoundData data) {
+        GameEvents.ClipOpenEvent event = new GameEvents.ClipOpenEvent();
+        event.begin();
+        event.path = key;
+        event.pcmSize = data.pcm.length;
+        
+        Clip clip = null;
+        try {
+            clip = AudioSystem.getClip();
+            clip.open(data.format, data.pcm, 0, data.pcm.length);
+            event.success = true;
         } catch (Exception ex) {
+            event.error = ex.toString();
+            if (clip != null) {
+                clip.close();
+                clip = null;
+            }
+        }
+        event.commit();
+        return clip;
+    }
+    
+    private static int oldestSlot(VoicePool pool) {
+        int oldest = -1;
+        for (int i = 0; i < pool.size; i++) {
+            if (oldest == -1 || pool.startedAt[i] < pool.startedAt[oldest]) {
+                oldest = i;
+            }
+        }
+        return oldest;
+    }
+    
+    private static int countActiveVoices() {
+        int active = 0;
+        for (VoicePool pool : pools.values()) {
+            for (int i = 0; i < pool.size; i++) {
+                if (pool.clips[i].isActive()) {
+                    active++;
+                }
+            }
         }
+        return active;
     }
     
-    public void stopAll() {
-        if (currentClip != null) {
-            currentClip.stop();
+    private static void stealOldestVoice() {
+        Clip oldest = null;
+        long oldestStart = Long.MAX_VALUE;
+        for (VoicePool pool : pools.values()) {
+            for (int i = 0; i < pool.size; i++) {
+                if (pool.clips[i].isActive() && pool.startedAt[i] < oldestStart) {
+                    oldest = pool.clips[i];
+                    oldestStart = pool.startedAt[i];
+                }
+            }
+        }
+        if (oldest != null) {
+            oldest.stop();
         }
     }
 }
-
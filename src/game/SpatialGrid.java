@@ -0,0 +1,133 @@
+package game;
+
+import java.util.List;
+
+public class SpatialGrid {
+    private static final int DEFAULT_CELL_SIZE = 128;
+    
+    private final int cellSize;
+    private double originX;
+    private double originY;
+    private int columns;
+    private int rows;
+    private int[][] cells;
+    private int[] cellCounts;
+    private double[] centerX;
+    private double[] centerY;
+    private double[] radiusSq;
+    private int count;
+    
+    public SpatialGrid() {
+        this(DEFAULT_CELL_SIZE);
+    }
+    
+    public SpatialGrid(int cellSize) {
+        this.cellSize = cellSize;
+        this.cells = new int[0][];
+        this.cellCounts = new int[0];
+        this.centerX = new double[0];
+        this.centerY = new double[0];
+        this.radiusSq = new double[0];
+        this.count = 0;
+    }
+    
+    public void rebuild(List<? extends HitArea> objects) {
+        count = objects.size();
+        centerX = new double[count];
+        centerY = new double[count];
+        radiusSq = new double[count];
+        
+        double minX = Double.MAX_VALUE;
+        double minY = Double.MAX_VALUE;
+        double maxX = -Double.MAX_VALUE;
+        double maxY = -Double.MAX_VALUE;
+        double[] radius = new double[count];
+        
+        for (int i = 0; i < count; i++) {
+            HitArea obj = objects.get(i);
+            centerX[i] = obj.getX() + obj.getWidth() / 2;
+            centerY[i] = obj.getY() + obj.getHeight() / 2;
+            radius[i] = Math.min(obj.getWidth(), obj.getHeight()) / 2;
+            radiusSq[i] = radius[i] * radius[i];
+            
+            minX = Math.min(minX, centerX[i] - radius[i]);
+            minY = Math.min(minY, centerY[i] - radius[i]);
+            maxX = Math.max(maxX, centerX[i] + radius[i]);
+            maxY = Math.max(maxY, centerY[i] + radius[i]);
+        }
+        
+        if (count == 0) {
+            columns = 0;
+            rows = 0;
+            cells = new int[0][];
+            cellCounts = new int[0];
+            return;
+        }
+        
+        originX = minX;
+        originY = minY;
+        columns = Math.max(1, (int) Math.ceil((maxX - minX) / cellSize));
+        rows = Math.max(1, (int) Math.ceil((maxY - minY) / cellSize));
+        cells = new int[columns * rows][];
+        cellCounts = new int[columns * rows];
+        
+        for (int i = 0; i < count; i++) {
+            int firstColumn = clampColumn((int) ((centerX[i] - radius[i] - originX) / cellSize));
+            int lastColumn = clampColumn((int) ((centerX[i] + radius[i] - originX) / cellSize));
+            int firstRow = clampRow((int) ((centerY[i] - radius[i] - originY) / cellSize));
+            int lastRow = clampRow((int) ((centerY[i] + radius[i] - originY) / cellSize));
+            
+            for (int row = firstRow; row <= lastRow; row++) {
+                for (int column = firstColumn; column <= lastColumn; column++) {
+                    insert(row * columns + column, i);
+                }
+            }
+        }
+    }
+    
+    private void insert(int cell, int index) {
+        int[] entries = cells[cell];
+        if (entries == null) {
+            entries = new int[4];
+            cells[cell] = entries;
+        } else if (cellCounts[cell] == entries.length) {
+            int[] grown = new int[entries.length * 2];
+            System.arraycopy(entries, 0, grown, 0, entries.length);
+            entries = grown;
+            cells[cell] = entries;
+        }
+        entries[cellCounts[cell]++] = index;
+    }
+    
+    public int query(double x, double y) {
+        if (count == 0 || x < originX || y < originY) {
+            return -1;
+        }
+        
+        int column = clampColumn((int) ((x - originX) / cellSize));
+        int row = clampRow((int) ((y - originY) / cellSize));
+        int cell = row * columns + column;
+        int[] entries = cells[cell];
+        for (int i = 0; i < cellCounts[cell]; i++) {
+            int index = entries[i];
+            double dx = x - centerX[index];
+            double dy = y - centerY[index];
+            if (dx * dx + dy * dy <= radiusSq[index]) {
+                return index;
+            }
+        }
+        return -1;
+    }
+    
+    private int clampColumn(int column) {
+        return Math.max(0, Math.min(columns - 1, column));
+    }
+    
+    private int clampRow(int row) {
+        return Math.max(0, Math.min(rows - 1, row));
+    }
+    
+    public int size() {
+        return count;
+    }
+}
@@ -0,0 +1,121 @@
+package game;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+
+public class SpriteFrame {
+    private static final int MIN_LEVEL_SIZE = 8;
+    
+    private final BufferedImage[] levels;
+    private BufferedImage scaled;
+    
+    private SpriteFrame(BufferedImage[] levels) {
+        this.levels = levels;
+    }
+    
+    public static SpriteFrame build(SpriteRegion region) {
+        if (region == null) {
+            return null;
+        }
+        
+        BufferedImage image = region.toImage();
+        ArrayList<BufferedImage> levels = new ArrayList<>();
+        levels.add(image);
+        BufferedImage level = image;
+        while (level.getWidth() / 2 >= MIN_LEVEL_SIZE && level.getHeight() / 2 >= MIN_LEVEL_SIZE) {
+            level = halve(level);
+            levels.add(level);
+        }
+        return new SpriteFrame(levels.toArray(new BufferedImage[0]));
+    }
+    
+    private static BufferedImage halve(BufferedImage source) {
+        int srcWidth = source.getWidth();
+        int srcHeight = source.getHeight();
+        int width = srcWidth / 2;
+        int height = srcHeight / 2;
+        int[] src = source.getRGB(0, 0, srcWidth, srcHeight, null, 0, srcWidth);
+        int[] dst = new int[width * height];
+        
+        for (int y = 0; y < height; y++) {
+            int row0 = y * 2 * srcWidth;
+            int row1 = row0 + srcWidth;
+            for (int x = 0; x < width; x++) {
+                int col = x * 2;
+                dst[y * width + x] = average(src[row0 + col], src[row0 + col + 1], src[row1 + col], src[row1 + col + 1]);
+            }
+        }
+        
+        BufferedImage result = ImageNormalizer.createImage(width, height, Transparency.TRANSLUCENT);
+        result.setRGB(0, 0, width, height, dst, 0, width);
+        return result;
+    }
+    
+    private static int average(int p0, int p1, int p2, int p3) {
+        int a0 = p0 >>> 24;
+        int a1 = p1 >>> 24;
+        int a2 = p2 >>> 24;
+        int a3 = p3 >>> 24;
+        int alpha = a0 + a1 + a2 + a3;
+        if (alpha == 0) {
+            return 0;
+        }
+        
+        int r = ((p0 >> 16) & 0xff) * a0 + ((p1 >> 16) & 0xff) * a1 + ((p2 >> 16) & 0xff) * a2 + ((p3 >> 16) & 0xff) * a3;
+        int g = ((p0 >> 8) & 0xff) * a0 + ((p1 >> 8) & 0xff) * a1 + ((p2 >> 8) & 0xff) * a2 + ((p3 >> 8) & 0xff) * a3;
+        int b = (p0 & 0xff) * a0 + (p1 & 0xff) * a1 + (p2 & 0xff) * a2 + (p3 & 0xff) * a3;
+        int half = alpha / 2;
+        return ((alpha + 2) / 4) << 24 | ((r + half) / alpha) << 16 | ((g + half) / alpha) << 8 | ((b + half) / alpha);
+    }
+    
+    public int getWidth() {
+        return levels[0].getWidth();
+    }
+    
+    public int getHeight() {
+        return levels[0].getHeight();
+    }
+    
+    public int getLevelCount() {
+        return levels.length;
+    }
+    
+    public BufferedImage getLevel(int width, int height) {
+        int index = 0;
+        while (index + 1 < levels.length
+                && levels[index + 1].getWidth() >= width
+                && levels[index + 1].getHeight() >= height) {
+            index++;
+        }
+        return levels[index];
+    }
+    
+    public void draw(Graphics2D g2d, int x, int y, int width, int height) {
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        
+        BufferedImage image = scaled;
+        if (image == null || image.getWidth() != width || image.getHeight() != height) {
+            image = scale(getLevel(width, height), width, height);
+            scaled = image;
+        }
+        g2d.drawImage(image, x, y, null);
+    }
+    
+    private static BufferedImage scale(BufferedImage level, int width, int height) {
+        if (level.getWidth() == width && level.getHeight() == height) {
+            return level;
+        }
+        
+        BufferedImage result = ImageNormalizer.createImage(width, height, Transparency.TRANSLUCENT);
+        Graphics2D g2d = result.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g2d.drawImage(level, 0, 0, width, height, null);
+        g2d.dispose();
+        return result;
+    }
+}
@@ -0,0 +1,60 @@
+package game;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+public class SpriteRegion {
+    private final BufferedImage image;
+    private final int x;
+    private final int y;
+    private final int width;
+    private final int height;
+    
+    public SpriteRegion(BufferedImage image, int x, int y, int width, int height) {
+        this.image = image;
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+    }
+    
+    public static SpriteRegion of(BufferedImage image) {
+        return image == null ? null : new SpriteRegion(image, 0, 0, image.getWidth(), image.getHeight());
+    }
+    
+    public BufferedImage getImage() {
+        return image;
+    }
+    
+    public int getX() {
+        return x;
+    }
+    
+    public int getY() {
+        return y;
+    }
+    
+    public int getWidth() {
+        return width;
+    }
+    
+    public int getHeight() {
+        return height;
+    }
+    
+    public boolean isWholeImage() {
+        return x == 0 && y == 0 && width == image.getWidth() && height == image.getHeight();
+    }
+    
+    public BufferedImage toImage() {
+        return isWholeImage() ? image : image.getSubimage(x, y, width, height);
+    }
+    
+    public void draw(Graphics2D g2d, int dx, int dy) {
+        g2d.drawImage(image, dx, dy, dx + width, dy + height, x, y, x + width, y + height, null);
+    }
+    
+    public void draw(Graphics2D g2d, int dx, int dy, int dw, int dh) {
+        g2d.drawImage(image, dx, dy, dx + dw, dy + dh, x, y, x + width, y + height, null);
+    }
+}
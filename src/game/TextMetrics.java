@@ -0,0 +1,53 @@
+package game;
+
+import java.awt.Font;
+import java.awt.font.FontRenderContext;
+import java.awt.font.LineMetrics;
+import java.awt.font.TextLayout;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class TextMetrics {
+    private static final FontRenderContext CONTEXT = new FontRenderContext(null, true, false);
+    private static final int STRINGS_PER_FONT_LIMIT = 512;
+    private static final float ROUNDING_UP = 0.95f;
+    
+    private static final ConcurrentHashMap<Font, ConcurrentHashMap<String, Measurement>> measurements = new ConcurrentHashMap<>();
+    
+    public static int stringWidth(Font font, String text) {
+        return measure(font, text).width;
+    }
+    
+    public static int getAscent(Font font, String text) {
+        return measure(font, text).ascent;
+    }
+    
+    public static int getHeight(Font font, String text) {
+        return measure(font, text).height;
+    }
+    
+    private static Measurement measure(Font font, String text) {
+        ConcurrentHashMap<String, Measurement> strings = measurements.computeIfAbsent(font, f -> new ConcurrentHashMap<>());
+        Measurement measurement = strings.get(text);
+        if (measurement == null) {
+            if (strings.size() >= STRINGS_PER_FONT_LIMIT) {
+                strings.clear();
+            }
+            measurement = new Measurement(font, text);
+            strings.put(text, measurement);
+        }
+        return measurement;
+    }
+    
+    private static class Measurement {
+        private final int width;
+        private final int ascent;
+        private final int height;
+        
+        Measurement(Font font, String text) {
+            LineMetrics line = font.getLineMetrics(text, CONTEXT);
+            ascent = (int) (ROUNDING_UP + line.getAscent());
+            height = ascent + (int) (ROUNDING_UP + line.getDescent() + line.getLeading());
+            width = text.isEmpty() ? 0 : Math.round(new TextLayout(text, font, CONTEXT).getAdvance());
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package game;
+
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class TextureAtlas {
+    private static final int MAX_PAGE_SIZE = 2048;
+    private static final int PADDING = 2;
+    
+    private static final ConcurrentHashMap<String, SpriteRegion> regions = new ConcurrentHashMap<>();
+    private static final HashMap<String, List<String>> groupOf = new HashMap<>();
+    private static final LinkedHashSet<List<String>> builtGroups = new LinkedHashSet<>();
+    private static final ArrayList<BufferedImage> pages = new ArrayList<>();
+    
+    static {
+        ArrayList<String> buildings = new ArrayList<>();
+        for (GameConfig.HoverObject config : GameConfig.HOVER_OBJECTS) {
+            buildings.add(config.imagePath);
+        }
+        register(buildings);
+        register(MainMenu.getButtonImagePaths());
+    }
+    
+    private static void register(List<String> paths) {
+        ArrayList<String> group = new ArrayList<>();
+        for (String path : paths) {
+            String key = AssetManager.normalizePath(path);
+            if (!groupOf.containsKey(key) && !group.contains(key)) {
+                group.add(key);
+            }
+        }
+        for (String key : group) {
+            groupOf.put(key, group);
+        }
+    }
+    
+    public static SpriteRegion getRegion(String path) {
+        if (path == null || path.isEmpty()) {
+            return null;
+        }
+        
+        String key = AssetManager.normalizePath(path);
+        SpriteRegion region = regions.get(key);
+        if (region != null) {
+            return region;
+        }
+        
+        List<String> group;
+        synchronized (TextureAtlas.class) {
+            group = groupOf.get(key);
+            if (group != null && builtGroups.add(group)) {
+                build(group);
+            }
+        }
+        region = regions.get(key);
+        return region != null ? region : SpriteRegion.of(AssetManager.getImage(key));
+    }
+    
+    public static synchronized int getPageCount() {
+        return pages.size();
+    }
+    
+    private static void build(List<String> group) {
+        long start = System.nanoTime();
+        ArrayList<String> keys = new ArrayList<>();
+        ArrayList<BufferedImage> images = new ArrayList<>();
+        for (String key : group) {
+            BufferedImage image = AssetManager.getImage(key);
+            if (image != null && image.getWidth() + PADDING * 2 <= MAX_PAGE_SIZE && image.getHeight() + PADDING * 2 <= MAX_PAGE_SIZE) {
+                keys.add(key);
+                images.add(image);
+            }
+        }
+        if (images.isEmpty()) {
+            return;
+        }
+        
+        Integer[] order = new Integer[images.size()];
+        long area = 0;
+        int widest = 0;
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+            area += (long) (images.get(i).getWidth() + PADDING * 2) * (images.get(i).getHeight() + PADDING * 2);
+            widest = Math.max(widest, images.get(i).getWidth() + PADDING * 2);
+        }
+        Arrays.sort(order, Comparator.comparingInt((Integer i) -> images.get(i).getHeight()).reversed());
+        
+        int pageWidth = Math.min(MAX_PAGE_SIZE, Math.max(widest, Integer.highestOneBit((int) Math.ceil(Math.sqrt(area)) - 1) << 1));
+        int[] placedX = new int[order.length];
+        int[] placedY = new int[order.length];
+        int[] placedPage = new int[order.length];
+        ArrayList<Integer> pageHeights = new ArrayList<>();
+        
+        int page = 0;
+        int shelfX = 0;
+        int shelfY = 0;
+        int shelfHeight = 0;
+        for (int i : order) {
+            int w = images.get(i).getWidth() + PADDING * 2;
+            int h = images.get(i).getHeight() + PADDING * 2;
+            if (shelfX + w > pageWidth) {
+                shelfY += shelfHeight;
+                shelfX = 0;
+                shelfHeight = 0;
+            }
+            if (shelfY + h > MAX_PAGE_SIZE) {
+                pageHeights.add(shelfY);
+                page++;
+                shelfX = 0;
+                shelfY = 0;
+                shelfHeight = 0;
+            }
+            placedX[i] = shelfX + PADDING;
+            placedY[i] = shelfY + PADDING;
+            placedPage[i] = page;
+            shelfX += w;
+            shelfHeight = Math.max(shelfHeight, h);
+        }
+        pageHeights.add(shelfY + shelfHeight);
+        
+        BufferedImage[] atlas = new BufferedImage[pageHeights.size()];
+        for (int p = 0; p < atlas.length; p++) {
+            atlas[p] = ImageNormalizer.createImage(pageWidth, pageHeights.get(p), Transparency.TRANSLUCENT);
+            pages.add(atlas[p]);
+        }
+        for (int i = 0; i < images.size(); i++) {
+            BufferedImage image = images.get(i);
+            copyExtruded(image, atlas[placedPage[i]], placedX[i], placedY[i]);
+            regions.put(keys.get(i), new SpriteRegion(atlas[placedPage[i]], placedX[i], placedY[i], image.getWidth(), image.getHeight()));
+        }
+        
+        System.out.println("Packed " + images.size() + " sprites into " + atlas.length + " atlas page(s) of width " + pageWidth
+            + " in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+    }
+    
+    private static void copyExtruded(BufferedImage image, BufferedImage page, int x, int y) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
+        page.setRGB(x, y, width, height, pixels, 0, width);
+        
+        for (int row = 0; row < height; row++) {
+            page.setRGB(x - 1, y + row, pixels[row * width]);
+            page.setRGB(x + width, y + row, pixels[row * width + width - 1]);
+        }
+        for (int col = -1; col <= width; col++) {
+            int source = Math.max(0, Math.min(width - 1, col));
+            page.setRGB(x + col, y - 1, pixels[source]);
+            page.setRGB(x + col, y + height, pixels[(height - 1) * width + source]);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package sim;
+
+import editor.Waypoint;
+import game.GameConfig;
+import game.GameLoop;
+import game.GameWorld;
+import game.NavGraph;
+import game.PlayerState;
+import game.RouteTable;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+
+public class SimulationMain {
+    private static final double START_X = 980.0;
+    private static final double START_Y = 401.0;
+    private static final int MAX_TICKS_PER_VISIT = GameLoop.TICKS_PER_SECOND * 120;
+    
+    private long ticks;
+    private long visits;
+    private long hoverChanges;
+    private long stuckVisits;
+    private double distance;
+    
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        
+        int sessions = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+        int visitsPerSession = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 1L;
+        
+        ArrayList<ArrayList<Waypoint>> paths = GameConfig.getWaypointPaths();
+        NavGraph navGraph = new NavGraph(paths);
+        RouteTable routeTable = RouteTable.load(paths, navGraph, GameConfig.HOVER_OBJECTS, new File(GameConfig.ROUTE_CACHE_FILE));
+        
+        SimulationMain simulation = new SimulationMain();
+        SplittableRandom random = new SplittableRandom(seed);
+        
+        long start = System.nanoTime();
+        for (int i = 0; i < sessions; i++) {
+            simulation.runSession(navGraph, routeTable, random.split(), visitsPerSession);
+        }
+        double elapsed = (System.nanoTime() - start) / 1_000_000_000.0;
+        
+        System.out.println("Sessions: " + sessions + " (" + visitsPerSession + " visits each, seed " + seed + ")");
+        System.out.println("Visits: " + simulation.visits + ", stuck: " + simulation.stuckVisits);
+        System.out.println("Hover changes: " + simulation.hoverChanges);
+        System.out.printf("Simulated time: %.1f s over %d ticks%n", simulation.ticks * GameLoop.TICK_SECONDS, simulation.ticks);
+        System.out.printf("Average walk: %.1f px per visit%n", simulation.visits == 0 ? 0.0 : simulation.distance / simulation.visits);
+        System.out.printf("Wall time: %.3f s (%.0f sessions/s)%n", elapsed, sessions / elapsed);
+    }
+    
+    private void runSession(NavGraph navGraph, RouteTable routeTable, SplittableRandom random, int visitCount) {
+        PlayerState player = new PlayerState(START_X, START_Y);
+        GameWorld world = new GameWorld(player, GameConfig.HOVER_OBJECTS, navGraph, routeTable);
+        world.addConfiguredAreas();
+        world.setListener((previousIndex, currentIndex) -> hoverChanges++);
+        
+        for (int v = 0; v < visitCount; v++) {
+            GameConfig.HoverObject target = GameConfig.HOVER_OBJECTS[random.nextInt(GameConfig.HOVER_OBJECTS.length)];
+            double clickX = target.x + target.width / 2;
+            double clickY = target.y + target.height / 2;
+            
+            world.setPointer(clickX, clickY);
+            world.update(GameLoop.TICK_SECONDS);
+            ticks++;
+            
+            if (world.click(clickX, clickY) == -1) {
+                continue;
+            }
+            visits++;
+            distance += player.getRouteLength();
+            
+            int visitTicks = 0;
+            while (player.isMoving() && visitTicks < MAX_TICKS_PER_VISIT) {
+                world.update(GameLoop.TICK_SECONDS);
+                visitTicks++;
+            }
+            if (player.isMoving()) {
+                stuckVisits++;
+            }
+            ticks += visitTicks;
+        }
+    }
+}